@@ -1,5 +1,6 @@
 package com.asusrouter.application.port.in;
 
+import com.asusrouter.domain.model.Timestamped;
 import com.asusrouter.mcp.annotations.McpParameter;
 import com.asusrouter.mcp.annotations.McpTool;
 
@@ -9,7 +10,9 @@ import com.asusrouter.mcp.annotations.McpTool;
 @McpTool(
     name = "asus_router_get_client_list",
     description = "Retrieve list of known clients in specified format (0=basic, 1=with details, 2=full JSON)",
-    errorCodes = {"ROUTER_AUTH_FAILED", "ROUTER_COMM_ERROR", "INVALID_PARAMETER"}
+    errorCodes = {"ROUTER_AUTH_FAILED", "ROUTER_COMM_ERROR", "INVALID_PARAMETER"},
+    method = "executeWithAge",
+    rawJson = true
 )
 public interface GetClientListUseCase {
     /**
@@ -25,4 +28,12 @@ public interface GetClientListUseCase {
         )
         Integer format
     );
+    
+    /**
+     * Get the client list from the latest snapshot, with its age.
+     * May answer with slightly stale data while a refresh runs.
+     * @param format Output format (0, 1, or 2)
+     * @return Client list JSON with age marker
+     */
+    Timestamped<String> executeWithAge(Integer format);
 }
@@ -0,0 +1,51 @@
+package com.asusrouter.application.port.in;
+
+import com.asusrouter.domain.model.ClientFullInfo;
+import com.asusrouter.domain.model.MacAddress;
+import com.asusrouter.mcp.annotations.McpParameter;
+import com.asusrouter.mcp.annotations.McpTool;
+
+import java.util.List;
+
+/**
+ * Port for retrieving complete information for many clients in one call.
+ */
+@McpTool(
+    name = "asus_router_get_clients_full_info",
+    description = "Retrieve complete information for several clients at once, selected by a list of MAC addresses and/or filtered by vendor or connection type",
+    errorCodes = {"ROUTER_AUTH_FAILED", "ROUTER_COMM_ERROR", "INVALID_PARAMETER"}
+)
+public interface GetClientsFullInfoUseCase {
+    /**
+     * Execute the use case to get full information for all matching clients.
+     * All given criteria must match; without any criteria every client is returned.
+     * @param macs Client MAC addresses to include, or null for all clients
+     * @param vendor Case-insensitive vendor substring, or null for any vendor
+     * @param isWL Connection type (0=wired, 1=2.4GHz, 2=5GHz, 3=5GHz-2), or null for any
+     * @return Matching clients; unknown MAC addresses are left out
+     */
+    List<ClientFullInfo> execute(
+        @McpParameter(
+            name = "macs",
+            description = "Client MAC addresses (format: AA:BB:CC:DD:EE:FF or AA-BB-CC-DD-EE-FF)",
+            required = false
+        )
+        List<MacAddress> macs,
+        
+        @McpParameter(
+            name = "vendor",
+            description = "Only clients whose vendor contains this text (case-insensitive)",
+            required = false
+        )
+        String vendor,
+        
+        @McpParameter(
+            name = "isWL",
+            description = "Only clients with this connection type: 0=wired, 1=2.4GHz, 2=5GHz, 3=5GHz-2",
+            required = false,
+            min = 0,
+            max = 3
+        )
+        Integer isWL
+    );
+}
@@ -0,0 +1,20 @@
+package com.asusrouter.application.port.in;
+
+import com.asusrouter.domain.model.CpuUtilization;
+import com.asusrouter.mcp.annotations.McpTool;
+
+/**
+ * Port for retrieving current router CPU utilization per core.
+ */
+@McpTool(
+    name = "asus_router_get_cpu_utilization",
+    description = "Retrieve current router CPU utilization per core, computed from the counter change since the previous call",
+    errorCodes = {"ROUTER_AUTH_FAILED", "ROUTER_COMM_ERROR"}
+)
+public interface GetCpuUtilizationUseCase {
+    /**
+     * Execute the use case to get CPU utilization.
+     * @return CPU utilization since the previous sample
+     */
+    CpuUtilization execute();
+}
@@ -0,0 +1,38 @@
+package com.asusrouter.application.port.in;
+
+import com.asusrouter.domain.model.MetricHistory;
+import com.asusrouter.mcp.annotations.McpParameter;
+import com.asusrouter.mcp.annotations.McpTool;
+
+/**
+ * Port for retrieving the recorded history of a router metric.
+ */
+@McpTool(
+    name = "asus_router_get_metric_history",
+    description = "Retrieve min/max/avg/last history of a router metric (CPU, memory, traffic counters, client count) over the last minutes, hours or weeks",
+    errorCodes = {"INVALID_PARAMETER"}
+)
+public interface GetMetricHistoryUseCase {
+    /**
+     * Execute the use case to get the history of a metric.
+     * @param metric Metric name, e.g. cpu.average
+     * @param minutes Length of the range ending now, or null for one hour
+     * @return Metric history at the resolution that fits the range
+     */
+    MetricHistory execute(
+        @McpParameter(
+            name = "metric",
+            description = "Metric name: cpu.average, cpu.core1..N, memory.used_percent, memory.used_kb, clients.online, traffic.<interface>.rx_bytes or traffic.<interface>.tx_bytes"
+        )
+        String metric,
+        
+        @McpParameter(
+            name = "minutes",
+            description = "Length of the range ending now, in minutes (default 60, up to 8 weeks)",
+            required = false,
+            min = 1,
+            max = 80640
+        )
+        Integer minutes
+    );
+}
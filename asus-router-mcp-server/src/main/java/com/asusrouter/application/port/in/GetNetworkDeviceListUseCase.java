@@ -9,7 +9,8 @@ import com.asusrouter.mcp.annotations.McpTool;
 @McpTool(
     name = "asus_router_get_network_device_list",
     description = "Retrieve list of network devices with optional device name filter",
-    errorCodes = {"ROUTER_AUTH_FAILED", "ROUTER_COMM_ERROR"}
+    errorCodes = {"ROUTER_AUTH_FAILED", "ROUTER_COMM_ERROR"},
+    rawJson = true
 )
 public interface GetNetworkDeviceListUseCase {
     /**
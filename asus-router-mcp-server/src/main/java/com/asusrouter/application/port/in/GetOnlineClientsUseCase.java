@@ -2,6 +2,7 @@ package com.asusrouter.application.port.in;
 
 
 import com.asusrouter.domain.model.OnlineClient;
+import com.asusrouter.domain.model.Timestamped;
 import com.asusrouter.mcp.annotations.McpTool;
 import java.util.List;
 
@@ -11,7 +12,8 @@ import java.util.List;
 @McpTool(
     name = "asus_router_get_online_clients",
     description = "Retrieve list of currently online/connected clients with their basic information",
-    errorCodes = {"ROUTER_AUTH_FAILED", "ROUTER_COMM_ERROR"}
+    errorCodes = {"ROUTER_AUTH_FAILED", "ROUTER_COMM_ERROR"},
+    method = "executeWithAge"
 )
 public interface GetOnlineClientsUseCase {
     /**
@@ -19,4 +21,11 @@ public interface GetOnlineClientsUseCase {
      * @return List of online clients
      */
     List<OnlineClient> execute();
+    
+    /**
+     * Get online clients from the latest snapshot, with its age.
+     * May answer with slightly stale data while a refresh runs.
+     * @return List of online clients with age marker
+     */
+    Timestamped<List<OnlineClient>> executeWithAge();
 }
@@ -9,7 +9,8 @@ import com.asusrouter.mcp.annotations.McpTool;
 @McpTool(
     name = "asus_router_get_wan_link",
     description = "Retrieve WAN link information with optional unit specification for WAN interface",
-    errorCodes = {"ROUTER_AUTH_FAILED", "ROUTER_COMM_ERROR"}
+    errorCodes = {"ROUTER_AUTH_FAILED", "ROUTER_COMM_ERROR"},
+    rawJson = true
 )
 public interface GetWanLinkUseCase {
     /**
@@ -0,0 +1,25 @@
+package com.asusrouter.application.port.out;
+
+/**
+ * Outbound port for persisting metric samples across restarts.
+ */
+public interface MetricJournalPort {
+    
+    /**
+     * Receives samples read back from the journal.
+     */
+    @FunctionalInterface
+    interface SampleConsumer {
+        void accept(String metric, long timeMillis, double value);
+    }
+    
+    /**
+     * Append one sample. Must be cheap; durability is batched by the implementation.
+     */
+    void append(String metric, long timeMillis, double value);
+    
+    /**
+     * Read all retained samples back, oldest segment first.
+     */
+    void replay(SampleConsumer consumer);
+}
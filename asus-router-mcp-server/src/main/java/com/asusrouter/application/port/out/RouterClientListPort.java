@@ -0,0 +1,44 @@
+package com.asusrouter.application.port.out;
+
+import com.asusrouter.domain.model.Timestamped;
+
+/**
+ * Outbound port for the router client list.
+ * Returns raw router responses; parsing happens in the service layer.
+ */
+public interface RouterClientListPort {
+    /**
+     * Get the client list in the requested format.
+     * @param format 0 = basic list, 1 = with details, 2 = full JSON structure
+     * @return Raw client list JSON
+     */
+    String getClientList(int format);
+    
+    /**
+     * Get the currently online clients.
+     * @return Raw JSON array of objects with 'mac' and 'ip' fields
+     */
+    String getOnlineClients();
+    
+    /**
+     * Get the currently online clients with the age of the reading.
+     * Unlike {@link #getOnlineClientsSnapshot()} nothing past its freshness window is served.
+     * @return Raw online client JSON with its age
+     */
+    Timestamped<String> getOnlineClientsWithAge();
+    
+    /**
+     * Get the client list, answering from the last snapshot if one exists.
+     * A snapshot past its freshness window is still returned, marked stale,
+     * while a refresh runs in the background.
+     * @param format 0 = basic list, 1 = with details, 2 = full JSON structure
+     * @return Raw client list JSON with its age
+     */
+    Timestamped<String> getClientListSnapshot(int format);
+    
+    /**
+     * Get the online clients, answering from the last snapshot if one exists.
+     * @return Raw online client JSON with its age
+     */
+    Timestamped<String> getOnlineClientsSnapshot();
+}
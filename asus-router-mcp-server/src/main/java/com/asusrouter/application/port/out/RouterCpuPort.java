@@ -0,0 +1,23 @@
+package com.asusrouter.application.port.out;
+
+import com.asusrouter.domain.model.Timestamped;
+
+/**
+ * Outbound port for reading router CPU usage counters.
+ * Returns the raw router response; parsing happens in the service layer.
+ */
+public interface RouterCpuPort {
+    /**
+     * Get router CPU usage counters.
+     * @return Raw response with one "total;usage" pair per core,
+     *         e.g. "cpu1Total;cpu1Usage;cpu2Total;cpu2Usage"
+     */
+    String getCpuUsage();
+    
+    /**
+     * Get router CPU usage counters with the age of the reading.
+     * A polled snapshot can be older than the call, so interval math must use its age.
+     * @return Raw counter response with its age
+     */
+    Timestamped<String> getCpuUsageSnapshot();
+}
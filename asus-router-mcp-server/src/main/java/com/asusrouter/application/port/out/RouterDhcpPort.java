@@ -0,0 +1,13 @@
+package com.asusrouter.application.port.out;
+
+/**
+ * Outbound port for the router DHCP lease table.
+ * Returns the raw router response; parsing happens in the service layer.
+ */
+public interface RouterDhcpPort {
+    /**
+     * Get DHCP leases.
+     * @return Raw JSON array of leases or semicolon-separated lease lines
+     */
+    String getDhcpLeases();
+}
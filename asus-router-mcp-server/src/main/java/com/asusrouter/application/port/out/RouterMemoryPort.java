@@ -0,0 +1,21 @@
+package com.asusrouter.application.port.out;
+
+import com.asusrouter.domain.model.Timestamped;
+
+/**
+ * Outbound port for reading router memory usage.
+ * Returns the raw router response; parsing happens in the service layer.
+ */
+public interface RouterMemoryPort {
+    /**
+     * Get router memory usage.
+     * @return Raw response in format "memTotal;memFree;memUsed"
+     */
+    String getMemoryUsage();
+    
+    /**
+     * Get router memory usage with the age of the reading.
+     * @return Raw response with its age
+     */
+    Timestamped<String> getMemoryUsageSnapshot();
+}
@@ -0,0 +1,14 @@
+package com.asusrouter.application.port.out;
+
+/**
+ * Outbound port for the router network device list.
+ * Returns the raw router response; parsing happens in the service layer.
+ */
+public interface RouterNetworkDevicePort {
+    /**
+     * Get network devices, optionally filtered by device name.
+     * @param deviceName Device name filter (e.g., "eth0"), or null for all devices
+     * @return Raw network device JSON
+     */
+    String getNetworkDeviceList(String deviceName);
+}
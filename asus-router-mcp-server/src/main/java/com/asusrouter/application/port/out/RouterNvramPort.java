@@ -0,0 +1,20 @@
+package com.asusrouter.application.port.out;
+
+/**
+ * Outbound port for router NVRAM access.
+ * Returns raw router responses; parsing happens in the service layer.
+ */
+public interface RouterNvramPort {
+    /**
+     * Get the NVRAM settings dump.
+     * @return Raw JSON object with NVRAM key-value pairs
+     */
+    String getSettings();
+    
+    /**
+     * Execute a read-only NVRAM command.
+     * @param command NVRAM command (e.g., "nvram get lan_ipaddr")
+     * @return Raw NVRAM value as plain text
+     */
+    String executeNvramCommand(String command);
+}
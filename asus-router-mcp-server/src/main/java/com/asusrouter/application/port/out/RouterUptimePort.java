@@ -0,0 +1,13 @@
+package com.asusrouter.application.port.out;
+
+/**
+ * Outbound port for reading router uptime.
+ * Returns the raw router response; parsing happens in the service layer.
+ */
+public interface RouterUptimePort {
+    /**
+     * Get router uptime.
+     * @return Raw response in format "since;uptimeSeconds"
+     */
+    String getUptime();
+}
@@ -0,0 +1,35 @@
+package com.asusrouter.application.port.out;
+
+import com.asusrouter.domain.model.Timestamped;
+
+/**
+ * Outbound port for WAN link, WAN status and interface traffic counters.
+ * Returns raw router responses; parsing happens in the service layer.
+ */
+public interface RouterWanLinkPort {
+    /**
+     * Get interface traffic counters (netdev hook).
+     * @return Raw JSON with tx/rx byte counters per interface
+     */
+    String getTrafficStats();
+    
+    /**
+     * Get interface traffic counters with the age of the reading.
+     * A polled snapshot can be older than the call, so rate math must use its age.
+     * @return Raw netdev JSON with its age
+     */
+    Timestamped<String> getTrafficStatsSnapshot();
+    
+    /**
+     * Get WAN connection status.
+     * @return Raw JSON with status, IP, gateway, netmask and DNS servers
+     */
+    String getWanStatus();
+    
+    /**
+     * Get WAN link information for a WAN unit.
+     * @param unit WAN unit number (0 = primary, 1 = secondary)
+     * @return Raw WAN link response
+     */
+    String getWanLink(int unit);
+}
@@ -0,0 +1,53 @@
+package com.asusrouter.application.service;
+
+import com.asusrouter.domain.model.ClientFullInfo;
+import com.asusrouter.domain.model.IpAddress;
+import com.asusrouter.domain.model.MacAddress;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Maps a get_clientlist entry (format 2) to ClientFullInfo.
+ */
+final class ClientFullInfoMapper {
+    
+    private ClientFullInfoMapper() {
+    }
+    
+    static ClientFullInfo toClientFullInfo(JsonNode node) {
+        return new ClientFullInfo(
+            node.path("name").asText(""),
+            node.path("nickName").asText(""),
+            new IpAddress(node.path("ip").asText("0.0.0.0")),
+            new MacAddress(node.path("mac").asText()),
+            node.path("from").asText(""),
+            node.path("macRepeat").asInt(1),
+            node.path("isGateway").asBoolean(false),
+            node.path("isWebStorage").asBoolean(false),
+            node.path("isPrinter").asBoolean(false),
+            node.path("isITunes").asBoolean(false),
+            node.path("dpiType").asText(""),
+            node.path("dpiDevice").asText(""),
+            node.path("vendor").asText(""),
+            node.path("osType").asText(""),
+            node.path("ssid").asText(""),
+            node.path("isWL").asInt(0),
+            node.path("isOnline").asBoolean(false),
+            node.path("rssi").asInt(0),
+            node.path("curTx").asText(""),
+            node.path("curRx").asText(""),
+            node.path("totalTx").asText("0"),
+            node.path("totalRx").asText("0"),
+            node.path("wlConnectTime").asInt(0),
+            node.path("ipMethod").asText(""),
+            node.path("opMode").asInt(0),
+            node.path("ROG").asBoolean(false),
+            node.path("group").asText(""),
+            node.path("callback").asText(""),
+            node.path("keeparp").asText(""),
+            node.path("qosLevel").asText(""),
+            node.path("wtfast").asBoolean(false),
+            node.path("internetMode").asText("allow"),
+            node.path("internetState").asInt(0)
+        );
+    }
+}
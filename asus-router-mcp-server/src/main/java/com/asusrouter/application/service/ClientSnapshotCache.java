@@ -0,0 +1,57 @@
+package com.asusrouter.application.service;
+
+import com.asusrouter.domain.model.ClientSnapshot;
+import com.asusrouter.domain.model.Mac48;
+import com.asusrouter.domain.model.MacAddress;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.LinkedHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps the MAC-indexed form of the last get_clientlist response.
+ * The router cache hands back the same response until it expires,
+ * so repeated lookups skip re-parsing the document entirely.
+ */
+final class ClientSnapshotCache {
+    
+    private volatile Parsed last;
+    
+    /**
+     * Get the indexed snapshot for a raw client list, parsing only if it changed.
+     */
+    ClientSnapshot<JsonNode> snapshotOf(String rawResponse, ObjectMapper objectMapper) throws JsonProcessingException {
+        Parsed current = last;
+        if (current != null && current.rawResponse().equals(rawResponse)) {
+            return current.snapshot();
+        }
+        ClientSnapshot<JsonNode> snapshot = index(objectMapper.readTree(rawResponse));
+        last = new Parsed(rawResponse, snapshot);
+        return snapshot;
+    }
+    
+    private ClientSnapshot<JsonNode> index(JsonNode root) {
+        // Client list is typically under a "get_clientlist" or similar key
+        JsonNode clientsNode = root.path("get_clientlist");
+        if (clientsNode.isMissingNode()) {
+            clientsNode = root;
+        }
+        
+        Map<Mac48, JsonNode> byMac = new LinkedHashMap<>();
+        Iterator<JsonNode> clients = clientsNode.elements();
+        while (clients.hasNext()) {
+            JsonNode clientNode = clients.next();
+            long key = MacAddress.parseKey(clientNode.path("mac").asText(""));
+            if (key >= 0) {
+                byMac.putIfAbsent(new Mac48(key), clientNode);
+            }
+        }
+        return new ClientSnapshot<>(byMac);
+    }
+    
+    private record Parsed(String rawResponse, ClientSnapshot<JsonNode> snapshot) {
+    }
+}
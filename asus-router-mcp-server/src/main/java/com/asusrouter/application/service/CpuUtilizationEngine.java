@@ -0,0 +1,117 @@
+package com.asusrouter.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.asusrouter.domain.model.CoreUtilization;
+import com.asusrouter.domain.model.CpuUtilization;
+
+/**
+ * Turns cumulative CPU counters into interval utilization.
+ * Keeps the previous sample per core in primitive arrays and computes
+ * busy/total deltas against it, for any number of cores.
+ */
+final class CpuUtilizationEngine {
+    
+    private long[] previousTotal;
+    private long[] previousBusy;
+    private long previousNanos;
+    private CpuUtilization last;
+    
+    /**
+     * Parse a counter response: one "total;usage" pair per core,
+     * e.g. "38106047;3395512;38106008;2384694" for two cores.
+     * @return Counters as {totals, busy}
+     */
+    static long[][] parseCounters(String response) {
+        if (response == null) {
+            throw new IllegalStateException("Invalid CPU usage response format: null");
+        }
+        int fields = 1;
+        for (int i = 0; i < response.length(); i++) {
+            if (response.charAt(i) == ';') {
+                fields++;
+            }
+        }
+        if (fields < 2 || fields % 2 != 0) {
+            throw new IllegalStateException("Invalid CPU usage response format: " + response);
+        }
+        
+        long[] totals = new long[fields / 2];
+        long[] busy = new long[fields / 2];
+        int field = 0;
+        long value = 0;
+        boolean digits = false;
+        boolean closed = false;
+        for (int i = 0; i <= response.length(); i++) {
+            char c = i < response.length() ? response.charAt(i) : ';';
+            if (c >= '0' && c <= '9' && !closed) {
+                value = value * 10 + (c - '0');
+                digits = true;
+            } else if (c == ';') {
+                if (!digits) {
+                    throw new IllegalStateException("Invalid CPU usage response format: " + response);
+                }
+                if (field % 2 == 0) {
+                    totals[field / 2] = value;
+                } else {
+                    busy[field / 2] = value;
+                }
+                field++;
+                value = 0;
+                digits = false;
+                closed = false;
+            } else if (Character.isWhitespace(c)) {
+                closed = digits;
+            } else {
+                throw new IllegalStateException("Invalid CPU usage response format: " + response);
+            }
+        }
+        return new long[][] {totals, busy};
+    }
+    
+    /**
+     * Record a counter sample and compute utilization since the previous one.
+     * A sample with no counter movement (e.g. a cached router response)
+     * returns the last result instead of an empty interval.
+     */
+    synchronized CpuUtilization sample(String response, long nanoTime) {
+        long[][] counters = parseCounters(response);
+        long[] totals = counters[0];
+        long[] busy = counters[1];
+        
+        boolean baseline = previousTotal == null || previousTotal.length != totals.length;
+        if (!baseline) {
+            boolean moved = false;
+            for (int core = 0; core < totals.length; core++) {
+                if (totals[core] < previousTotal[core] || busy[core] < previousBusy[core]) {
+                    // Counters went backwards: the router rebooted
+                    baseline = true;
+                    break;
+                }
+                moved |= totals[core] != previousTotal[core];
+            }
+            if (!baseline && !moved && last != null) {
+                return last;
+            }
+        }
+        
+        List<CoreUtilization> cores = new ArrayList<>(totals.length);
+        double sum = 0;
+        for (int core = 0; core < totals.length; core++) {
+            long totalTicks = baseline ? totals[core] : totals[core] - previousTotal[core];
+            long busyTicks = baseline ? busy[core] : busy[core] - previousBusy[core];
+            busyTicks = Math.min(busyTicks, totalTicks);
+            double percent = totalTicks > 0 ? busyTicks * 100.0 / totalTicks : 0.0;
+            cores.add(new CoreUtilization(core + 1, percent, busyTicks, totalTicks));
+            sum += percent;
+        }
+        long intervalMillis = baseline ? 0 : (nanoTime - previousNanos) / 1_000_000;
+        
+        previousTotal = totals;
+        previousBusy = busy;
+        previousNanos = nanoTime;
+        last = new CpuUtilization(sum / totals.length, intervalMillis, baseline, cores);
+        return last;
+    }
+}
@@ -11,8 +11,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.Iterator;
-
 /**
  * Use case implementation for retrieving client summary information.
  */
@@ -22,6 +20,7 @@ public class GetClientInfoSummaryService implements GetClientInfoSummaryUseCase
     
     private final RouterClientListPort routerClientListPort;
     private final ObjectMapper objectMapper;
+    private final ClientSnapshotCache clientSnapshots = new ClientSnapshotCache();
     
     @Override
     public ClientSummary execute(MacAddress mac) {
@@ -31,30 +30,17 @@ public class GetClientInfoSummaryService implements GetClientInfoSummaryUseCase
     
     /**
      * Parse client summary from JSON response.
+     * Look up the client by MAC address in the indexed snapshot.
      */
     private ClientSummary parseClientSummary(String response, MacAddress targetMac) {
         try {
-            JsonNode root = objectMapper.readTree(response);
-            String normalizedTargetMac = targetMac.normalized();
-            
-            JsonNode clientsNode = root.path("get_clientlist");
-            if (clientsNode.isMissingNode()) {
-                clientsNode = root;
-            }
-            
-            Iterator<String> fieldNames = clientsNode.fieldNames();
-            while (fieldNames.hasNext()) {
-                String key = fieldNames.next();
-                JsonNode clientNode = clientsNode.get(key);
-                
-                String clientMac = clientNode.path("mac").asText("");
-                if (new MacAddress(clientMac).normalized().equals(normalizedTargetMac)) {
-                    return buildClientSummary(clientNode);
-                }
+            JsonNode clientNode = clientSnapshots.snapshotOf(response, objectMapper).find(targetMac).orElse(null);
+            if (clientNode != null) {
+                return buildClientSummary(clientNode);
             }
             
             throw new ClientNotFoundException(targetMac.value(),
-                "Client with MAC address " + normalizedTargetMac + " not found");
+                "Client with MAC address " + targetMac.normalized() + " not found");
             
         } catch (ClientNotFoundException e) {
             throw e;
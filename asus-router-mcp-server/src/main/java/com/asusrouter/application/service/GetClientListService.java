@@ -2,6 +2,7 @@ package com.asusrouter.application.service;
 
 import com.asusrouter.application.port.in.GetClientListUseCase;
 import com.asusrouter.application.port.out.RouterClientListPort;
+import com.asusrouter.domain.model.Timestamped;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -16,6 +17,19 @@ public class GetClientListService implements GetClientListUseCase {
     
     @Override
     public String execute(Integer format) {
+        // Return raw JSON response directly
+        // Format 0 = basic list
+        // Format 1 = with details
+        // Format 2 = full JSON structure
+        return routerClientListPort.getClientList(normalizeFormat(format));
+    }
+    
+    @Override
+    public Timestamped<String> executeWithAge(Integer format) {
+        return routerClientListPort.getClientListSnapshot(normalizeFormat(format));
+    }
+    
+    private int normalizeFormat(Integer format) {
         // Normalize format parameter
         int normalizedFormat = (format != null) ? format : 0;
         
@@ -23,11 +37,6 @@ public class GetClientListService implements GetClientListUseCase {
         if (normalizedFormat < 0 || normalizedFormat > 2) {
             normalizedFormat = 0;
         }
-        
-        // Return raw JSON response directly
-        // Format 0 = basic list
-        // Format 1 = with details
-        // Format 2 = full JSON structure
-        return routerClientListPort.getClientList(normalizedFormat);
+        return normalizedFormat;
     }
 }
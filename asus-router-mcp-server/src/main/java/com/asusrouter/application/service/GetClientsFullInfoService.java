@@ -0,0 +1,77 @@
+package com.asusrouter.application.service;
+
+import com.asusrouter.application.port.in.GetClientsFullInfoUseCase;
+import com.asusrouter.application.port.out.RouterClientListPort;
+import com.asusrouter.domain.model.ClientFullInfo;
+import com.asusrouter.domain.model.ClientSnapshot;
+import com.asusrouter.domain.model.Mac48;
+import com.asusrouter.domain.model.MacAddress;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Use case implementation for retrieving complete information for many clients.
+ * Uses one client list fetch and one indexed snapshot for all lookups.
+ * Results follow the order of the requested MACs, each client once; without
+ * MACs they follow the router's client list.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetClientsFullInfoService implements GetClientsFullInfoUseCase {
+    
+    private final RouterClientListPort routerClientListPort;
+    private final ObjectMapper objectMapper;
+    private final ClientSnapshotCache clientSnapshots = new ClientSnapshotCache();
+    
+    @Override
+    public List<ClientFullInfo> execute(List<MacAddress> macs, String vendor, Integer isWL) {
+        String rawResponse = routerClientListPort.getClientList(2); // Format 2 = full JSON
+        
+        ClientSnapshot<JsonNode> snapshot;
+        try {
+            snapshot = clientSnapshots.snapshotOf(rawResponse, objectMapper);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to parse client list response", e);
+        }
+        
+        Collection<JsonNode> candidates;
+        if (macs == null || macs.isEmpty()) {
+            candidates = snapshot.all();
+        } else {
+            candidates = new ArrayList<>(macs.size());
+            Set<Mac48> requested = new HashSet<>();
+            for (MacAddress mac : macs) {
+                if (requested.add(mac.compact())) {
+                    snapshot.find(mac).ifPresent(candidates::add);
+                }
+            }
+        }
+        
+        String vendorFilter = (vendor == null || vendor.isBlank()) ? null : vendor.toLowerCase(Locale.ROOT);
+        List<ClientFullInfo> result = new ArrayList<>();
+        for (JsonNode clientNode : candidates) {
+            if (matches(clientNode, vendorFilter, isWL)) {
+                result.add(ClientFullInfoMapper.toClientFullInfo(clientNode));
+            }
+        }
+        return result;
+    }
+    
+    private boolean matches(JsonNode clientNode, String vendorFilter, Integer isWL) {
+        if (isWL != null && clientNode.path("isWL").asInt(0) != isWL) {
+            return false;
+        }
+        return vendorFilter == null
+            || clientNode.path("vendor").asText("").toLowerCase(Locale.ROOT).contains(vendorFilter);
+    }
+}
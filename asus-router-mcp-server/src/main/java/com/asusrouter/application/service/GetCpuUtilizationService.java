@@ -0,0 +1,42 @@
+package com.asusrouter.application.service;
+
+import com.asusrouter.application.port.in.GetCpuUtilizationUseCase;
+import com.asusrouter.application.port.out.RouterCpuPort;
+import com.asusrouter.domain.model.CoreUtilization;
+import com.asusrouter.domain.model.CpuUtilization;
+import com.asusrouter.domain.model.Timestamped;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Use case implementation for retrieving interval CPU utilization.
+ * Each call samples the router counters and compares them with the previous sample;
+ * interval results are added to the metric history. Samples are timed by when the
+ * router was read, which for a polled snapshot is earlier than the call.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetCpuUtilizationService implements GetCpuUtilizationUseCase {
+    
+    private final RouterCpuPort routerCpuPort;
+    private final MetricHistoryStore metricHistory;
+    private final CpuUtilizationEngine engine = new CpuUtilizationEngine();
+    private final ReadingTracker recorded = new ReadingTracker();
+    
+    @Override
+    public CpuUtilization execute() {
+        Timestamped<String> reading = routerCpuPort.getCpuUsageSnapshot();
+        long sampledAt = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(reading.ageMillis());
+        CpuUtilization utilization = engine.sample(reading.value(), sampledAt);
+        long captured = ReadingTracker.captureMillis(reading);
+        if (!utilization.sinceBoot() && recorded.isNew(captured)) {
+            metricHistory.record(MetricHistoryStore.CPU_AVERAGE, captured, utilization.averagePercent());
+            for (CoreUtilization core : utilization.cores()) {
+                metricHistory.record(MetricHistoryStore.cpuCore(core.core()), captured, core.percent());
+            }
+        }
+        return utilization;
+    }
+}
@@ -3,22 +3,32 @@ package com.asusrouter.application.service;
 import com.asusrouter.application.port.in.GetMemoryUsageUseCase;
 import com.asusrouter.application.port.out.RouterMemoryPort;
 import com.asusrouter.domain.model.MemoryUsage;
+import com.asusrouter.domain.model.Timestamped;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 /**
  * Use case implementation for retrieving router memory usage.
+ * Each new reading is added to the metric history at the time it was captured.
  */
 @Service
 @RequiredArgsConstructor
 public class GetMemoryUsageService implements GetMemoryUsageUseCase {
     
     private final RouterMemoryPort routerMemoryPort;
+    private final MetricHistoryStore metricHistory;
+    private final ReadingTracker recorded = new ReadingTracker();
     
     @Override
     public MemoryUsage execute() {
-        String rawResponse = routerMemoryPort.getMemoryUsage();
-        return parseMemoryUsageResponse(rawResponse);
+        Timestamped<String> reading = routerMemoryPort.getMemoryUsageSnapshot();
+        MemoryUsage memory = parseMemoryUsageResponse(reading.value());
+        long captured = ReadingTracker.captureMillis(reading);
+        if (recorded.isNew(captured)) {
+            metricHistory.record(MetricHistoryStore.MEMORY_USED_KB, captured, memory.getUsedKB());
+            metricHistory.record(MetricHistoryStore.MEMORY_USED_PERCENT, captured, memory.getUsagePercentage());
+        }
+        return memory;
     }
     
     /**
@@ -0,0 +1,36 @@
+package com.asusrouter.application.service;
+
+import java.util.TreeSet;
+
+import com.asusrouter.application.port.in.GetMetricHistoryUseCase;
+import com.asusrouter.domain.model.MetricHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case implementation for retrieving metric history from the in-memory store.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetMetricHistoryService implements GetMetricHistoryUseCase {
+    
+    private static final int DEFAULT_MINUTES = 60;
+    private static final int MAX_MINUTES = 8 * 7 * 24 * 60;
+    
+    private final MetricHistoryStore metricHistory;
+    
+    @Override
+    public MetricHistory execute(String metric, Integer minutes) {
+        int rangeMinutes = minutes != null ? minutes : DEFAULT_MINUTES;
+        if (rangeMinutes < 1 || rangeMinutes > MAX_MINUTES) {
+            throw new IllegalArgumentException("minutes must be between 1 and " + MAX_MINUTES);
+        }
+        long now = System.currentTimeMillis();
+        MetricHistory history = metricHistory.query(metric, now - rangeMinutes * 60_000L, now, now);
+        if (history == null) {
+            throw new IllegalArgumentException("Unknown metric: " + metric
+                + ". Recorded metrics: " + new TreeSet<>(metricHistory.metricNames()));
+        }
+        return history;
+    }
+}
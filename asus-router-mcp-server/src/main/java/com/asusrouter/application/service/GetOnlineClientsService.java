@@ -5,6 +5,7 @@ import com.asusrouter.application.port.out.RouterClientListPort;
 import com.asusrouter.domain.model.IpAddress;
 import com.asusrouter.domain.model.MacAddress;
 import com.asusrouter.domain.model.OnlineClient;
+import com.asusrouter.domain.model.Timestamped;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import java.util.List;
 
 /**
  * Use case implementation for retrieving online clients list.
+ * Each new reading adds the client count to the metric history at the time it was captured.
  */
 @Service
 @RequiredArgsConstructor
@@ -22,11 +24,26 @@ public class GetOnlineClientsService implements GetOnlineClientsUseCase {
     
     private final RouterClientListPort routerClientListPort;
     private final ObjectMapper objectMapper;
+    private final MetricHistoryStore metricHistory;
+    private final ReadingTracker recorded = new ReadingTracker();
     
     @Override
     public List<OnlineClient> execute() {
-        String rawResponse = routerClientListPort.getOnlineClients();
-        return parseOnlineClientsResponse(rawResponse);
+        return parseAndRecord(routerClientListPort.getOnlineClientsWithAge()).value();
+    }
+    
+    @Override
+    public Timestamped<List<OnlineClient>> executeWithAge() {
+        return parseAndRecord(routerClientListPort.getOnlineClientsSnapshot());
+    }
+    
+    private Timestamped<List<OnlineClient>> parseAndRecord(Timestamped<String> reading) {
+        Timestamped<List<OnlineClient>> clients = reading.map(this::parseOnlineClientsResponse);
+        long captured = ReadingTracker.captureMillis(reading);
+        if (recorded.isNew(captured)) {
+            metricHistory.record(MetricHistoryStore.CLIENTS_ONLINE, captured, clients.value().size());
+        }
+        return clients;
     }
     
     /**
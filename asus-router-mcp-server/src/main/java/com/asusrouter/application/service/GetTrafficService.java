@@ -2,6 +2,7 @@ package com.asusrouter.application.service;
 
 import com.asusrouter.application.port.in.GetTrafficUseCase;
 import com.asusrouter.application.port.out.RouterWanLinkPort;
+import com.asusrouter.domain.model.Timestamped;
 import com.asusrouter.domain.model.TrafficSpeed;
 import com.asusrouter.domain.model.TrafficTotal;
 import com.asusrouter.domain.model.TrafficWithSpeed;
@@ -10,9 +11,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Use case implementation for retrieving network traffic with speed.
- * Combines total traffic and current transfer rates.
+ * Combines total traffic and the transfer rate between the latest two
+ * netdev samples, so the call returns immediately instead of sampling twice.
+ * Samples are timed by when the router was read, which for a polled
+ * snapshot is earlier than the call.
  */
 @Service
 @RequiredArgsConstructor
@@ -20,36 +26,54 @@ public class GetTrafficService implements GetTrafficUseCase {
     
     private final RouterWanLinkPort routerWanLinkPort;
     private final ObjectMapper objectMapper;
+    private final MetricHistoryStore metricHistory;
+    private final TrafficRateEngine rateEngine = new TrafficRateEngine();
+    
+    private volatile String lastResponse;
     
     @Override
     public TrafficWithSpeed execute() {
-        String rawResponse = routerWanLinkPort.getTrafficStats();
-        return parseTrafficWithSpeedResponse(rawResponse);
+        Timestamped<String> reading = routerWanLinkPort.getTrafficStatsSnapshot();
+        long ageNanos = TimeUnit.MILLISECONDS.toNanos(reading.ageMillis());
+        return parseTrafficWithSpeedResponse(reading.value(), System.nanoTime() - ageNanos,
+            System.currentTimeMillis() - reading.ageMillis());
     }
     
     /**
-     * Parse traffic statistics with speed calculation.
-     * Router typically provides tx_bytes, rx_bytes, tx_packets, rx_packets.
-     * Speed is calculated from rate of change in bytes.
+     * Parse traffic statistics and update the rate from the byte counters.
+     * Router provides rx/tx byte counters per interface; a repeated (cached)
+     * response is not a new sample and keeps the current rate.
      */
-    private TrafficWithSpeed parseTrafficWithSpeedResponse(String response) {
+    private TrafficWithSpeed parseTrafficWithSpeedResponse(String response, long nanoTime, long timeMillis) {
         try {
             JsonNode root = objectMapper.readTree(response);
-            JsonNode wanInterface = findWanInterface(root);
+            long sentBytes;
+            long recvBytes;
             
-            // Total traffic in bytes
-            long sentBytes = wanInterface.path("tx_bytes").asLong();
-            long recvBytes = wanInterface.path("rx_bytes").asLong();
+            JsonNode netdev = root.path("netdev");
+            if (netdev.has("INTERNET_tx")) {
+                // Firmware netdev hook: hex counters, e.g. {"netdev":{"INTERNET_rx":"0x1a2b",...}}
+                sentBytes = parseCounter(netdev.path("INTERNET_tx"));
+                recvBytes = parseCounter(netdev.path("INTERNET_rx"));
+            } else {
+                JsonNode wanInterface = findWanInterface(root);
+                sentBytes = parseCounter(wanInterface.path("tx_bytes"));
+                recvBytes = parseCounter(wanInterface.path("rx_bytes"));
+            }
             
             // Convert to Megabits
             double sentMb = (sentBytes * 8.0) / 1_000_000.0;
             double recvMb = (recvBytes * 8.0) / 1_000_000.0;
             TrafficTotal total = new TrafficTotal(sentMb, recvMb);
             
-            // Current speed (if available in response, otherwise 0)
-            double sentSpeedKbps = wanInterface.path("tx_speed").asDouble(0.0);
-            double recvSpeedKbps = wanInterface.path("rx_speed").asDouble(0.0);
-            TrafficSpeed speed = new TrafficSpeed(sentSpeedKbps, recvSpeedKbps);
+            TrafficSpeed speed;
+            if (response.equals(lastResponse)) {
+                speed = rateEngine.currentSpeed();
+            } else {
+                speed = rateEngine.record(recvBytes, sentBytes, nanoTime);
+                recordInterfaceCounters(root, timeMillis);
+            }
+            lastResponse = response;
             
             return new TrafficWithSpeed(total, speed);
             
@@ -58,6 +82,47 @@ public class GetTrafficService implements GetTrafficUseCase {
         }
     }
     
+    /**
+     * Add the byte counters of every interface in the response to the metric history.
+     */
+    private void recordInterfaceCounters(JsonNode root, long timeMillis) {
+        JsonNode netdev = root.path("netdev");
+        if (netdev.isObject()) {
+            netdev.fields().forEachRemaining(field -> {
+                String name = field.getKey();
+                if (name.endsWith("_rx") || name.endsWith("_tx")) {
+                    String metric = MetricHistoryStore.trafficBytes(
+                        name.substring(0, name.length() - 3), name.substring(name.length() - 2));
+                    metricHistory.record(metric, timeMillis, parseCounter(field.getValue()));
+                }
+            });
+            return;
+        }
+        root.fields().forEachRemaining(field -> {
+            JsonNode counters = field.getValue();
+            if (counters.has("rx_bytes") || counters.has("tx_bytes")) {
+                metricHistory.record(MetricHistoryStore.trafficBytes(field.getKey(), "rx"),
+                    timeMillis, parseCounter(counters.path("rx_bytes")));
+                metricHistory.record(MetricHistoryStore.trafficBytes(field.getKey(), "tx"),
+                    timeMillis, parseCounter(counters.path("tx_bytes")));
+            }
+        });
+    }
+    
+    /**
+     * Read a byte counter given as a number, a decimal string or a "0x" hex string.
+     */
+    private static long parseCounter(JsonNode node) {
+        if (node.isNumber()) {
+            return node.asLong();
+        }
+        String text = node.asText("0").trim();
+        if (text.startsWith("0x") || text.startsWith("0X")) {
+            return Long.parseUnsignedLong(text, 2, text.length(), 16);
+        }
+        return text.isEmpty() ? 0 : Long.parseLong(text);
+    }
+    
     private JsonNode findWanInterface(JsonNode root) {
         String[] wanNames = {"eth0", "ppp0", "wan", "vlan2"};
         for (String name : wanNames) {
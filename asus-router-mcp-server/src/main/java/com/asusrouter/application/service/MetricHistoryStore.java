@@ -0,0 +1,168 @@
+package com.asusrouter.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.application.port.out.MetricJournalPort;
+import com.asusrouter.domain.model.MetricBucket;
+import com.asusrouter.domain.model.MetricHistory;
+
+/**
+ * In-memory history of router metrics.
+ * Every metric keeps raw samples in a {@link MetricSeries} (up to a day at one
+ * per second, about 1.4 MB once full) plus two downsampling tiers: 1-minute
+ * buckets for a week and 1-hour buckets for eight weeks. Buffers grow as
+ * samples arrive, so a rarely sampled metric stays small. Queries read the
+ * finest tier that covers the range in at most {@link #MAX_POINTS} buckets.
+ * Accepted samples are appended to a {@link MetricJournalPort}, which is
+ * replayed on startup so history survives restarts.
+ */
+@Component
+public class MetricHistoryStore {
+    
+    /** One day at one sample per second. */
+    static final int DEFAULT_CAPACITY = 86_400;
+    
+    static final long RAW_RESOLUTION = 1_000;
+    static final long MINUTE = 60_000;
+    static final long HOUR = 3_600_000;
+    static final int MINUTE_BUCKETS = 7 * 24 * 60;
+    static final int HOUR_BUCKETS = 8 * 7 * 24;
+    
+    /** Most buckets returned by one query. */
+    static final int MAX_POINTS = 1_440;
+    
+    public static final String CPU_AVERAGE = "cpu.average";
+    public static final String MEMORY_USED_KB = "memory.used_kb";
+    public static final String MEMORY_USED_PERCENT = "memory.used_percent";
+    public static final String CLIENTS_ONLINE = "clients.online";
+    
+    private record Tiers(MetricSeries raw, RollupTier minutes, RollupTier hours) {
+    }
+    
+    private static final MetricJournalPort NO_JOURNAL = new MetricJournalPort() {
+        @Override
+        public void append(String metric, long timeMillis, double value) {
+        }
+        
+        @Override
+        public void replay(SampleConsumer consumer) {
+        }
+    };
+    
+    private final Map<String, Tiers> metrics = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final MetricJournalPort journal;
+    
+    public MetricHistoryStore() {
+        this(DEFAULT_CAPACITY, NO_JOURNAL);
+    }
+    
+    @Autowired
+    public MetricHistoryStore(MetricJournalPort journal) {
+        this(DEFAULT_CAPACITY, journal);
+    }
+    
+    MetricHistoryStore(int capacity) {
+        this(capacity, NO_JOURNAL);
+    }
+    
+    MetricHistoryStore(int capacity, MetricJournalPort journal) {
+        this.capacity = capacity;
+        this.journal = journal;
+        journal.replay(this::append);
+    }
+    
+    /**
+     * Metric name of one CPU core, starting at 1.
+     */
+    public static String cpuCore(int core) {
+        return "cpu.core" + core;
+    }
+    
+    /**
+     * Metric name of an interface byte counter, e.g. traffic.INTERNET.rx_bytes.
+     */
+    public static String trafficBytes(String interfaceName, String direction) {
+        return "traffic." + interfaceName + "." + direction + "_bytes";
+    }
+    
+    /**
+     * Append a sample to the raw series and every rollup tier, creating them on first use,
+     * and journal it.
+     */
+    public void record(String metric, long timeMillis, double value) {
+        if (append(metric, timeMillis, value)) {
+            journal.append(metric, timeMillis, value);
+        }
+    }
+    
+    private boolean append(String metric, long timeMillis, double value) {
+        Tiers tiers = metrics.computeIfAbsent(metric, name -> new Tiers(
+            new MetricSeries(capacity),
+            new RollupTier(MINUTE, MINUTE_BUCKETS),
+            new RollupTier(HOUR, HOUR_BUCKETS)));
+        if (tiers.raw().append(timeMillis, value)) {
+            tiers.minutes().add(timeMillis, value);
+            tiers.hours().add(timeMillis, value);
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Raw series of a metric.
+     * @return The series, or null if nothing was recorded for the metric
+     */
+    public MetricSeries series(String metric) {
+        Tiers tiers = metrics.get(metric);
+        return tiers == null ? null : tiers.raw();
+    }
+    
+    /**
+     * History of a metric for {@code fromMillis <= time < toMillis}, read from
+     * the finest tier that still holds {@code fromMillis} relative to
+     * {@code nowMillis} and covers the range in at most {@link #MAX_POINTS} buckets.
+     * @return The history, or null if nothing was recorded for the metric
+     */
+    public MetricHistory query(String metric, long fromMillis, long toMillis, long nowMillis) {
+        Tiers tiers = metrics.get(metric);
+        if (tiers == null) {
+            return null;
+        }
+        long span = Math.max(0, toMillis - fromMillis);
+        long age = Math.max(0, nowMillis - fromMillis);
+        
+        if (fits(span, age, RAW_RESOLUTION, RAW_RESOLUTION * tiers.raw().capacity())) {
+            MetricSeries.Samples samples = tiers.raw().range(fromMillis, toMillis);
+            List<MetricBucket> buckets = new ArrayList<>(samples.size());
+            for (int i = 0; i < samples.size(); i++) {
+                double value = samples.values()[i];
+                buckets.add(new MetricBucket(samples.timestamps()[i], value, value, value, value, 1));
+            }
+            return new MetricHistory(metric, RAW_RESOLUTION, fromMillis, toMillis, buckets);
+        }
+        RollupTier tier = fits(span, age, MINUTE, tiers.minutes().retentionMillis())
+            ? tiers.minutes()
+            : tiers.hours();
+        return new MetricHistory(metric, tier.resolutionMillis(), fromMillis, toMillis,
+            tier.range(fromMillis, toMillis));
+    }
+    
+    private static boolean fits(long span, long age, long resolution, long retention) {
+        return span / resolution <= MAX_POINTS && age <= retention;
+    }
+    
+    /**
+     * Names of all recorded metrics.
+     */
+    public Set<String> metricNames() {
+        return Set.copyOf(metrics.keySet());
+    }
+}
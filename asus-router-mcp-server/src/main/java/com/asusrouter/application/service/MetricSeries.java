@@ -0,0 +1,132 @@
+package com.asusrouter.application.service;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-capacity time series of one metric.
+ * Samples are kept in parallel primitive columns used as a ring buffer, so
+ * appending is O(1) and the oldest sample is overwritten once the buffer is
+ * full. The columns start small and double until they reach the capacity, so
+ * a sparse metric never holds the full buffer. Timestamps never decrease,
+ * which lets time ranges be found by binary search.
+ */
+public final class MetricSeries {
+    
+    /** Column length before the first sample outgrows it. */
+    static final int INITIAL_LENGTH = 64;
+    
+    private final int capacity;
+    private long[] timestamps;
+    private double[] values;
+    private int head;
+    private int size;
+    
+    /**
+     * Samples in a time range, oldest first.
+     */
+    public record Samples(long[] timestamps, double[] values) {
+        
+        public int size() {
+            return timestamps.length;
+        }
+    }
+    
+    public MetricSeries(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.timestamps = new long[Math.min(capacity, INITIAL_LENGTH)];
+        this.values = new double[timestamps.length];
+    }
+    
+    /**
+     * Append a sample. A sample older than the latest one is dropped.
+     * @return true if the sample was stored
+     */
+    public synchronized boolean append(long timeMillis, double value) {
+        if (size > 0 && timeMillis < timestamps[physical(size - 1)]) {
+            return false;
+        }
+        if (size == timestamps.length && size < capacity) {
+            // Not wrapped yet, so head is still 0 and the columns copy in order
+            int length = (int) Math.min(capacity, 2L * size);
+            timestamps = Arrays.copyOf(timestamps, length);
+            values = Arrays.copyOf(values, length);
+        }
+        int slot;
+        if (size < timestamps.length) {
+            slot = physical(size);
+            size++;
+        } else {
+            slot = head;
+            head = (head + 1) % timestamps.length;
+        }
+        timestamps[slot] = timeMillis;
+        values[slot] = value;
+        return true;
+    }
+    
+    /**
+     * Samples with {@code fromMillis <= time < toMillis}.
+     */
+    public synchronized Samples range(long fromMillis, long toMillis) {
+        int from = lowerBound(fromMillis);
+        int to = Math.max(from, lowerBound(toMillis));
+        long[] rangeTimes = new long[to - from];
+        double[] rangeValues = new double[to - from];
+        for (int i = from; i < to; i++) {
+            rangeTimes[i - from] = timestamps[physical(i)];
+            rangeValues[i - from] = values[physical(i)];
+        }
+        return new Samples(rangeTimes, rangeValues);
+    }
+    
+    /**
+     * Most recent value.
+     * @return The value, or NaN if the series is empty
+     */
+    public synchronized double latest() {
+        return size == 0 ? Double.NaN : values[physical(size - 1)];
+    }
+    
+    public synchronized int size() {
+        return size;
+    }
+    
+    public int capacity() {
+        return capacity;
+    }
+    
+    /**
+     * Drop all samples and shrink the columns back to their initial length.
+     */
+    public synchronized void clear() {
+        timestamps = new long[Math.min(capacity, INITIAL_LENGTH)];
+        values = new double[timestamps.length];
+        head = 0;
+        size = 0;
+    }
+    
+    /**
+     * Logical index of the first sample at or after {@code timeMillis}.
+     */
+    private int lowerBound(long timeMillis) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[physical(mid)] < timeMillis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private int physical(int index) {
+        int slot = head + index;
+        return slot < timestamps.length ? slot : slot - timestamps.length;
+    }
+}
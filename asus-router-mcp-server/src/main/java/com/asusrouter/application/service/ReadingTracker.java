@@ -0,0 +1,36 @@
+package com.asusrouter.application.service;
+
+import com.asusrouter.domain.model.Timestamped;
+
+/**
+ * Remembers when the last recorded router reading was captured, so a cached
+ * or polled snapshot served again is not recorded as a new sample.
+ * The capture time is the serving time minus the reading's age. For the same
+ * snapshot it varies by the rounding of that age and the time spent between
+ * serving and recording, so readings captured within {@link #SAME_READING_MILLIS}
+ * of the last one count as the same reading; router polls are far further apart.
+ */
+final class ReadingTracker {
+    
+    static final long SAME_READING_MILLIS = 50;
+    
+    private long lastCaptureMillis = Long.MIN_VALUE;
+    
+    /**
+     * Capture time of a reading, in epoch milliseconds.
+     */
+    static long captureMillis(Timestamped<?> reading) {
+        return System.currentTimeMillis() - reading.ageMillis();
+    }
+    
+    /**
+     * Check whether a reading captured at this time has not been recorded yet, and mark it recorded.
+     */
+    synchronized boolean isNew(long captureMillis) {
+        if (lastCaptureMillis != Long.MIN_VALUE && captureMillis < lastCaptureMillis + SAME_READING_MILLIS) {
+            return false;
+        }
+        lastCaptureMillis = captureMillis;
+        return true;
+    }
+}
@@ -0,0 +1,137 @@
+package com.asusrouter.application.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.asusrouter.domain.model.MetricBucket;
+
+/**
+ * Downsampling tier of one metric: fixed-width time buckets holding
+ * min/max/sum/count/last in primitive ring-buffer columns. Each sample
+ * updates the current bucket in place; a sample in a later bucket opens a
+ * new one and, once the tier is full, overwrites the oldest. Like
+ * {@link MetricSeries}, the columns grow by doubling up to the capacity.
+ */
+final class RollupTier {
+    
+    private final long resolutionMillis;
+    private final int capacity;
+    private long[] starts;
+    private double[] mins;
+    private double[] maxs;
+    private double[] sums;
+    private double[] lasts;
+    private long[] counts;
+    private int head;
+    private int size;
+    
+    RollupTier(long resolutionMillis, int capacity) {
+        if (resolutionMillis <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("Resolution and capacity must be positive");
+        }
+        this.resolutionMillis = resolutionMillis;
+        this.capacity = capacity;
+        int length = Math.min(capacity, MetricSeries.INITIAL_LENGTH);
+        this.starts = new long[length];
+        this.mins = new double[length];
+        this.maxs = new double[length];
+        this.sums = new double[length];
+        this.lasts = new double[length];
+        this.counts = new long[length];
+    }
+    
+    long resolutionMillis() {
+        return resolutionMillis;
+    }
+    
+    /**
+     * Time span the tier can hold once full.
+     */
+    long retentionMillis() {
+        return resolutionMillis * capacity;
+    }
+    
+    /**
+     * Fold a sample into its bucket. Samples before the current bucket are dropped.
+     */
+    synchronized void add(long timeMillis, double value) {
+        long start = timeMillis - Math.floorMod(timeMillis, resolutionMillis);
+        if (size > 0) {
+            int latest = physical(size - 1);
+            if (start == starts[latest]) {
+                mins[latest] = Math.min(mins[latest], value);
+                maxs[latest] = Math.max(maxs[latest], value);
+                sums[latest] += value;
+                lasts[latest] = value;
+                counts[latest]++;
+                return;
+            }
+            if (start < starts[latest]) {
+                return;
+            }
+        }
+        if (size == starts.length && size < capacity) {
+            // Not wrapped yet, so head is still 0 and the columns copy in order
+            grow((int) Math.min(capacity, 2L * size));
+        }
+        int slot;
+        if (size < starts.length) {
+            slot = physical(size);
+            size++;
+        } else {
+            slot = head;
+            head = (head + 1) % starts.length;
+        }
+        starts[slot] = start;
+        mins[slot] = value;
+        maxs[slot] = value;
+        sums[slot] = value;
+        lasts[slot] = value;
+        counts[slot] = 1;
+    }
+    
+    /**
+     * Buckets that overlap {@code fromMillis <= time < toMillis}, oldest first.
+     */
+    synchronized List<MetricBucket> range(long fromMillis, long toMillis) {
+        long firstStart = fromMillis - Math.floorMod(fromMillis, resolutionMillis);
+        int from = lowerBound(firstStart);
+        int to = Math.max(from, lowerBound(toMillis));
+        List<MetricBucket> buckets = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            int slot = physical(i);
+            buckets.add(new MetricBucket(starts[slot], mins[slot], maxs[slot],
+                sums[slot] / counts[slot], lasts[slot], counts[slot]));
+        }
+        return buckets;
+    }
+    
+    private void grow(int length) {
+        starts = Arrays.copyOf(starts, length);
+        mins = Arrays.copyOf(mins, length);
+        maxs = Arrays.copyOf(maxs, length);
+        sums = Arrays.copyOf(sums, length);
+        lasts = Arrays.copyOf(lasts, length);
+        counts = Arrays.copyOf(counts, length);
+    }
+    
+    private int lowerBound(long start) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[physical(mid)] < start) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private int physical(int index) {
+        int slot = head + index;
+        return slot < starts.length ? slot : slot - starts.length;
+    }
+}
@@ -0,0 +1,99 @@
+package com.asusrouter.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+
+import com.asusrouter.application.port.in.GetCpuUsageUseCase;
+import com.asusrouter.application.port.in.GetDhcpLeasesUseCase;
+import com.asusrouter.application.port.in.GetMemoryUsageUseCase;
+import com.asusrouter.application.port.in.GetOnlineClientsUseCase;
+import com.asusrouter.application.port.in.GetUptimeUseCase;
+import com.asusrouter.application.port.in.GetWanStatusUseCase;
+import com.asusrouter.domain.model.RouterSnapshot;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes the latest {@link RouterSnapshot} through an atomic reference.
+ * Readers get the current snapshot without locking; a capture reads all
+ * sections concurrently, stamps them with one time and swaps the whole
+ * snapshot in, so a slower older capture never replaces a newer one.
+ */
+@Service
+@RequiredArgsConstructor
+public class RouterSnapshotService {
+    
+    /** Snapshots younger than this are shared instead of captured again. */
+    static final Duration MAX_AGE = Duration.ofSeconds(1);
+    
+    private final GetUptimeUseCase getUptimeUseCase;
+    private final GetMemoryUsageUseCase getMemoryUsageUseCase;
+    private final GetCpuUsageUseCase getCpuUsageUseCase;
+    private final GetWanStatusUseCase getWanStatusUseCase;
+    private final GetOnlineClientsUseCase getOnlineClientsUseCase;
+    private final GetDhcpLeasesUseCase getDhcpLeasesUseCase;
+    
+    private final AtomicReference<RouterSnapshot> current = new AtomicReference<>();
+    
+    /**
+     * Latest published snapshot.
+     * @return The snapshot, or null if none was captured yet
+     */
+    public RouterSnapshot current() {
+        return current.get();
+    }
+    
+    /**
+     * Latest snapshot if it is younger than {@link #MAX_AGE}, otherwise a new capture.
+     */
+    public RouterSnapshot snapshot() {
+        RouterSnapshot latest = current.get();
+        if (latest != null && latest.capturedAt().plus(MAX_AGE).isAfter(Instant.now())) {
+            return latest;
+        }
+        return capture();
+    }
+    
+    /**
+     * Read all sections concurrently and publish them as one snapshot.
+     * @return The published snapshot, which is a newer one if another capture finished later
+     */
+    public RouterSnapshot capture() {
+        Instant capturedAt = Instant.now();
+        Map<String, String> errors = new ConcurrentHashMap<>();
+        RouterSnapshot captured;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var uptime = section(executor, RouterSnapshot.UPTIME, getUptimeUseCase::execute, errors);
+            var memory = section(executor, RouterSnapshot.MEMORY, getMemoryUsageUseCase::execute, errors);
+            var cpu = section(executor, RouterSnapshot.CPU, getCpuUsageUseCase::execute, errors);
+            var wan = section(executor, RouterSnapshot.WAN, getWanStatusUseCase::execute, errors);
+            var clients = section(executor, RouterSnapshot.CLIENTS, getOnlineClientsUseCase::execute, errors);
+            var leases = section(executor, RouterSnapshot.LEASES, getDhcpLeasesUseCase::execute, errors);
+            captured = new RouterSnapshot(capturedAt, uptime.join(), memory.join(), cpu.join(),
+                wan.join(), clients.join(), leases.join(), errors);
+        }
+        return current.accumulateAndGet(captured,
+            (previous, next) -> previous == null || previous.isOlderThan(next) ? next : previous);
+    }
+    
+    private <T> CompletableFuture<T> section(ExecutorService executor, String name, Supplier<T> reader,
+                                             Map<String, String> errors) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return reader.get();
+            } catch (Exception e) {
+                errors.put(name, String.valueOf(e.getMessage()));
+                return null;
+            }
+        }, executor);
+    }
+}
@@ -1,11 +1,6 @@
 package com.asusrouter.application.service;
 
 import com.asusrouter.application.port.in.ShowRouterInfoUseCase;
-import com.asusrouter.application.port.in.GetUptimeUseCase;
-import com.asusrouter.application.port.in.GetMemoryUsageUseCase;
-import com.asusrouter.application.port.in.GetCpuUsageUseCase;
-import com.asusrouter.application.port.in.GetWanStatusUseCase;
-import com.asusrouter.application.port.in.GetOnlineClientsUseCase;
 import com.asusrouter.domain.model.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,20 +10,19 @@ import java.util.List;
 /**
  * Use case implementation for displaying formatted router information.
  * Equivalent to Python's ShowRouterInfo functionality.
+ * All sections come from one {@link RouterSnapshot}, so the report shows
+ * the router as it was at a single instant.
  */
 @Service
 @RequiredArgsConstructor
 public class ShowRouterInfoService implements ShowRouterInfoUseCase {
     
-    private final GetUptimeUseCase getUptimeUseCase;
-    private final GetMemoryUsageUseCase getMemoryUsageUseCase;
-    private final GetCpuUsageUseCase getCpuUsageUseCase;
-    private final GetWanStatusUseCase getWanStatusUseCase;
-    private final GetOnlineClientsUseCase getOnlineClientsUseCase;
+    private final RouterSnapshotService routerSnapshotService;
     
     @Override
     public String execute(Boolean detailed) {
         boolean showDetailed = Boolean.TRUE.equals(detailed);
+        RouterSnapshot snapshot = routerSnapshotService.snapshot();
         
         StringBuilder output = new StringBuilder();
         output.append("═══════════════════════════════════════════════════════\n");
@@ -37,27 +31,27 @@ public class ShowRouterInfoService implements ShowRouterInfoUseCase {
         
         // System Information
         output.append("┌─ SYSTEM INFORMATION ─────────────────────────────────\n");
-        formatUptime(output);
-        formatMemoryUsage(output);
-        formatCpuUsage(output);
+        formatUptime(output, snapshot);
+        formatMemoryUsage(output, snapshot);
+        formatCpuUsage(output, snapshot);
         output.append("└──────────────────────────────────────────────────────\n\n");
         
         // Network Status
         output.append("┌─ NETWORK STATUS ─────────────────────────────────────\n");
-        formatWanStatus(output);
+        formatWanStatus(output, snapshot);
         output.append("└──────────────────────────────────────────────────────\n\n");
         
         // Connected Clients
         output.append("┌─ CONNECTED CLIENTS ──────────────────────────────────\n");
-        formatOnlineClients(output, showDetailed);
+        formatOnlineClients(output, snapshot, showDetailed);
         output.append("└──────────────────────────────────────────────────────\n");
         
         return output.toString();
     }
     
-    private void formatUptime(StringBuilder output) {
+    private void formatUptime(StringBuilder output, RouterSnapshot snapshot) {
         try {
-            Uptime uptime = getUptimeUseCase.execute();
+            Uptime uptime = require(snapshot.uptime(), snapshot, RouterSnapshot.UPTIME);
             output.append("│ Uptime:       ").append(uptime.since()).append("\n");
             output.append("│ Duration:     ").append(formatDuration(uptime.getUptimeSeconds())).append("\n");
         } catch (Exception e) {
@@ -65,9 +59,9 @@ public class ShowRouterInfoService implements ShowRouterInfoUseCase {
         }
     }
     
-    private void formatMemoryUsage(StringBuilder output) {
+    private void formatMemoryUsage(StringBuilder output, RouterSnapshot snapshot) {
         try {
-            MemoryUsage memory = getMemoryUsageUseCase.execute();
+            MemoryUsage memory = require(snapshot.memory(), snapshot, RouterSnapshot.MEMORY);
             output.append("│ Memory:       ")
                   .append(String.format("%.1f%% used ", memory.getUsagePercentage()))
                   .append(String.format("(%d MB / %d MB)", 
@@ -79,9 +73,9 @@ public class ShowRouterInfoService implements ShowRouterInfoUseCase {
         }
     }
     
-    private void formatCpuUsage(StringBuilder output) {
+    private void formatCpuUsage(StringBuilder output, RouterSnapshot snapshot) {
         try {
-            CpuUsage cpu = getCpuUsageUseCase.execute();
+            CpuUsage cpu = require(snapshot.cpu(), snapshot, RouterSnapshot.CPU);
             output.append("│ CPU Usage:    ")
                   .append(String.format("%.1f%% average ", cpu.getAveragePercentage()))
                   .append(String.format("(CPU1: %.1f%%, CPU2: %.1f%%)",
@@ -93,9 +87,9 @@ public class ShowRouterInfoService implements ShowRouterInfoUseCase {
         }
     }
     
-    private void formatWanStatus(StringBuilder output) {
+    private void formatWanStatus(StringBuilder output, RouterSnapshot snapshot) {
         try {
-            WanStatus wan = getWanStatusUseCase.execute();
+            WanStatus wan = require(snapshot.wan(), snapshot, RouterSnapshot.WAN);
             output.append("│ Status:       ").append(wan.isConnected() ? "✓ Connected" : "✗ Disconnected").append("\n");
             output.append("│ WAN IP:       ").append(wan.ip().value()).append("\n");
             output.append("│ Gateway:      ").append(wan.gateway().value()).append("\n");
@@ -115,9 +109,9 @@ public class ShowRouterInfoService implements ShowRouterInfoUseCase {
         }
     }
     
-    private void formatOnlineClients(StringBuilder output, boolean detailed) {
+    private void formatOnlineClients(StringBuilder output, RouterSnapshot snapshot, boolean detailed) {
         try {
-            List<OnlineClient> clients = getOnlineClientsUseCase.execute();
+            List<OnlineClient> clients = require(snapshot.clients(), snapshot, RouterSnapshot.CLIENTS);
             output.append("│ Total Online: ").append(clients.size()).append("\n");
             
             if (detailed && !clients.isEmpty()) {
@@ -139,6 +133,16 @@ public class ShowRouterInfoService implements ShowRouterInfoUseCase {
         }
     }
     
+    /**
+     * Section value, or the error it failed with during capture.
+     */
+    private static <T> T require(T value, RouterSnapshot snapshot, String section) {
+        if (value == null) {
+            throw new IllegalStateException(snapshot.errorOf(section));
+        }
+        return value;
+    }
+    
     private String formatDuration(long seconds) {
         long days = seconds / 86400;
         long hours = (seconds % 86400) / 3600;
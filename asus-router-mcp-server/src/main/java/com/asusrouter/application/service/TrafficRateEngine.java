@@ -0,0 +1,87 @@
+package com.asusrouter.application.service;
+
+import com.asusrouter.domain.model.TrafficSpeed;
+
+/**
+ * Computes transfer rates from successive netdev byte counter samples.
+ * Keeps the latest sample with its monotonic timestamp, so a rate is
+ * available as soon as two samples exist and no caller ever waits
+ * between two reads the way RouterInfo.py does.
+ */
+final class TrafficRateEngine {
+    
+    /** Firmware netdev counters on older kernels are 32-bit and wrap. */
+    private static final long COUNTER_32_RANGE = 1L << 32;
+    
+    /** Upper bound for a plausible link rate; a larger wrapped delta is not a wrap. */
+    private static final double MAX_BYTES_PER_SECOND = 10_000_000_000.0 / 8;
+    
+    private static final TrafficSpeed NO_RATE = new TrafficSpeed(0.0, 0.0);
+    
+    private record Sample(long rxBytes, long txBytes, long nanoTime) {
+    }
+    
+    private record State(Sample latest, TrafficSpeed speed) {
+    }
+    
+    private volatile State state = new State(null, NO_RATE);
+    
+    /**
+     * Rate between the latest two samples, in Mbit/s; zero until two samples exist.
+     */
+    TrafficSpeed currentSpeed() {
+        return state.speed();
+    }
+    
+    /**
+     * Add a counter sample and recompute the rate against the previous one.
+     * When rx and tx both go backwards the router rebooted and reset its
+     * counters, which restarts the measurement from this sample. A single
+     * counter that goes backwards is treated as a 32-bit wrap if that gives
+     * a plausible rate; the two counters wrap independently, never together.
+     * @param nanoTime Monotonic timestamp of the sample ({@link System#nanoTime()})
+     * @return Current rate in Mbit/s
+     */
+    synchronized TrafficSpeed record(long rxBytes, long txBytes, long nanoTime) {
+        Sample sample = new Sample(rxBytes, txBytes, nanoTime);
+        Sample previous = state.latest();
+        if (previous == null || nanoTime <= previous.nanoTime()) {
+            state = new State(sample, previous == null ? NO_RATE : state.speed());
+            return state.speed();
+        }
+        
+        if (rxBytes < previous.rxBytes() && txBytes < previous.txBytes()) {
+            state = new State(sample, NO_RATE);
+            return NO_RATE;
+        }
+        double seconds = (nanoTime - previous.nanoTime()) / 1_000_000_000.0;
+        long rxDelta = delta(previous.rxBytes(), rxBytes, seconds);
+        long txDelta = delta(previous.txBytes(), txBytes, seconds);
+        TrafficSpeed speed = rxDelta < 0 || txDelta < 0
+            ? NO_RATE
+            : new TrafficSpeed(megabitsPerSecond(txDelta, seconds), megabitsPerSecond(rxDelta, seconds));
+        state = new State(sample, speed);
+        return speed;
+    }
+    
+    /**
+     * Increase of one counter between two samples.
+     * @return Bytes transferred, or -1 if the decrease cannot be a 32-bit wrap
+     */
+    static long delta(long previous, long current, double seconds) {
+        if (current >= previous) {
+            return current - previous;
+        }
+        if (previous < COUNTER_32_RANGE) {
+            long wrapped = current + COUNTER_32_RANGE - previous;
+            if (wrapped <= MAX_BYTES_PER_SECOND * seconds) {
+                return wrapped;
+            }
+        }
+        return -1;
+    }
+    
+    private static double megabitsPerSecond(long bytes, double seconds) {
+        return bytes * 8.0 / 1_000_000.0 / seconds;
+    }
+}
@@ -0,0 +1,45 @@
+package com.asusrouter.domain.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * One fetched client list, indexed by the compact MAC address of each client.
+ * Built once per router response so repeated lookups are constant time.
+ * Clients keep the order of the router response.
+ *
+ * @param clients client entries keyed by {@link MacAddress#compact()}
+ */
+public record ClientSnapshot<T>(Map<Mac48, T> clients) {
+    
+    public ClientSnapshot {
+        if (clients == null) {
+            throw new IllegalArgumentException("Clients cannot be null");
+        }
+        clients = Collections.unmodifiableMap(new LinkedHashMap<>(clients));
+    }
+    
+    /**
+     * Look up a client by MAC address, ignoring separator and case.
+     */
+    public Optional<T> find(MacAddress mac) {
+        return Optional.ofNullable(clients.get(mac.compact()));
+    }
+    
+    /**
+     * All clients in the snapshot, in router response order.
+     */
+    public Collection<T> all() {
+        return clients.values();
+    }
+    
+    /**
+     * Number of clients in the snapshot.
+     */
+    public int size() {
+        return clients.size();
+    }
+}
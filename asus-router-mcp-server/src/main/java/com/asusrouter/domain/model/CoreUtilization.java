@@ -0,0 +1,35 @@
+package com.asusrouter.domain.model;
+
+import com.asusrouter.mcp.annotations.McpSchema;
+
+/**
+ * Utilization of one CPU core over a sampling interval.
+ *
+ * @param core       core number, starting at 1
+ * @param percent    busy share of the interval, 0-100
+ * @param busyTicks  busy counter ticks in the interval
+ * @param totalTicks total counter ticks in the interval
+ */
+@McpSchema(example = """
+{
+  "core": 1,
+  "percent": 12.5,
+  "busyTicks": 250,
+  "totalTicks": 2000
+}
+""")
+public record CoreUtilization(
+    int core,
+    double percent,
+    long busyTicks,
+    long totalTicks
+) {
+    public CoreUtilization {
+        if (core < 1) {
+            throw new IllegalArgumentException("Core number must be positive: " + core);
+        }
+        if (busyTicks < 0 || totalTicks < 0) {
+            throw new IllegalArgumentException("Tick counts cannot be negative");
+        }
+    }
+}
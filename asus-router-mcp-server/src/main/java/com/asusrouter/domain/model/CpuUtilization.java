@@ -0,0 +1,42 @@
+package com.asusrouter.domain.model;
+
+import java.util.List;
+
+import com.asusrouter.mcp.annotations.McpSchema;
+
+/**
+ * Router CPU utilization over the interval between two counter samples.
+ * Unlike {@link CpuUsage}, which reports cumulative counters since boot,
+ * this shows the current load.
+ *
+ * @param averagePercent mean utilization across all cores, 0-100
+ * @param intervalMillis time between the two samples; 0 for the first sample
+ * @param sinceBoot      true when there was no usable previous sample (first call,
+ *                       router reboot or core count change), so the values cover
+ *                       the time since boot
+ * @param cores          per-core utilization
+ */
+@McpSchema(example = """
+{
+  "averagePercent": 9.4,
+  "intervalMillis": 5012,
+  "sinceBoot": false,
+  "cores": [
+    {"core": 1, "percent": 12.5, "busyTicks": 250, "totalTicks": 2000},
+    {"core": 2, "percent": 6.3, "busyTicks": 126, "totalTicks": 2000}
+  ]
+}
+""")
+public record CpuUtilization(
+    double averagePercent,
+    long intervalMillis,
+    boolean sinceBoot,
+    List<CoreUtilization> cores
+) {
+    public CpuUtilization {
+        if (cores == null || cores.isEmpty()) {
+            throw new IllegalArgumentException("CPU utilization needs at least one core");
+        }
+        cores = List.copyOf(cores);
+    }
+}
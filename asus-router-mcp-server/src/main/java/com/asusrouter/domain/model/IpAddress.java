@@ -1,33 +1,91 @@
 package com.asusrouter.domain.model;
 
 import com.asusrouter.mcp.annotations.McpParameter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 /**
- * Value object representing an IPv4 address.
+ * Value object representing an IPv4 or IPv6 address.
  * Validates the format on construction.
+ * The text is parsed once; exactly one of the compact forms is kept alongside it,
+ * and equality and hashing use that form.
+ *
+ * @param value the address as given
+ * @param ipv4  the IPv4 form, or null for an IPv6 address
+ * @param ipv6  the IPv6 form, or null for an IPv4 address
  */
 @McpParameter(
-    pattern = "^(?:[0-9]{1,3}\\.){3}[0-9]{1,3}$",
-    description = "Valid IPv4 address in format XXX.XXX.XXX.XXX"
+    pattern = "^(?:(?:[0-9]{1,3}\\.){3}[0-9]{1,3}|[0-9A-Fa-f:.]*:[0-9A-Fa-f:.]*)$",
+    description = "Valid IPv4 address in format XXX.XXX.XXX.XXX, or IPv6 address"
 )
-public record IpAddress(String value) {
-    private static final String IP_PATTERN = "^(?:[0-9]{1,3}\\.){3}[0-9]{1,3}$";
+public record IpAddress(String value, @JsonIgnore Ipv4 ipv4, @JsonIgnore Ipv6 ipv6) {
     
     public IpAddress {
         if (value == null || value.isEmpty()) {
             throw new IllegalArgumentException("IP address cannot be null or empty");
         }
-        if (!value.matches(IP_PATTERN)) {
+        if ((ipv4 == null) == (ipv6 == null)) {
+            throw new IllegalArgumentException("IP address must be built from its text: " + value);
+        }
+    }
+    
+    /**
+     * Parse and validate an IPv4 or IPv6 address.
+     * @throws IllegalArgumentException if the text is not a valid address
+     */
+    public IpAddress(String value) {
+        this(value, Ipv4.parseBits(value));
+    }
+    
+    private IpAddress(String value, long ipv4Bits) {
+        this(value, ipv4Bits < 0 ? null : new Ipv4((int) ipv4Bits), ipv4Bits < 0 ? parseIpv6(value) : null);
+    }
+    
+    private static Ipv6 parseIpv6(String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("IP address cannot be null or empty");
+        }
+        if (value.indexOf(':') < 0) {
             throw new IllegalArgumentException("Invalid IP address format: " + value);
         }
-        // Validate each octet is 0-255
-        String[] octets = value.split("\\.");
-        for (String octet : octets) {
-            int num = Integer.parseInt(octet);
-            if (num < 0 || num > 255) {
-                throw new IllegalArgumentException("Invalid IP address octet: " + octet);
-            }
+        return Ipv6.parse(value);
+    }
+    
+    /**
+     * 32-bit numeric form of the address, first octet in the high byte.
+     * @throws IllegalStateException if this is an IPv6 address
+     */
+    public int toInt() {
+        return compact().bits();
+    }
+    
+    /**
+     * Compact int-backed form of the address.
+     * @throws IllegalStateException if this is an IPv6 address
+     */
+    public Ipv4 compact() {
+        if (ipv4 == null) {
+            throw new IllegalStateException("Not an IPv4 address: " + value);
         }
+        return ipv4;
+    }
+    
+    /**
+     * Check whether this address is in the same subnet as {@code network}.
+     * Netmasks are IPv4 only, so an IPv6 address is never in the subnet.
+     */
+    public boolean isInSubnet(IpAddress network, Netmask mask) {
+        return ipv4 != null && network.ipv4 != null && ipv4.isInSubnet(network.ipv4, mask);
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof IpAddress ip
+            && (ipv4 != null ? ipv4.equals(ip.ipv4) : ipv6.equals(ip.ipv6));
+    }
+    
+    @Override
+    public int hashCode() {
+        return ipv4 != null ? ipv4.hashCode() : ipv6.hashCode();
     }
     
     @Override
@@ -0,0 +1,85 @@
+package com.asusrouter.domain.model;
+
+/**
+ * Compact IPv4 address held in an int.
+ * Text is parsed in a single pass without regex, splitting or allocation.
+ *
+ * @param bits the address in network order (first octet in the high byte)
+ */
+public record Ipv4(int bits) {
+    
+    /**
+     * Parse dotted-quad text.
+     * @throws IllegalArgumentException if the text is not a valid IPv4 address
+     */
+    public static Ipv4 parse(CharSequence text) {
+        long bits = parseBits(text);
+        if (bits < 0) {
+            throw new IllegalArgumentException("Invalid IP address format: " + text);
+        }
+        return new Ipv4((int) bits);
+    }
+    
+    /**
+     * Parse dotted-quad text into its 32-bit value.
+     * @return The address as an unsigned value, or -1 if the text is not a valid IPv4 address
+     */
+    public static long parseBits(CharSequence text) {
+        return text == null ? -1 : parseBits(text, 0, text.length());
+    }
+    
+    /**
+     * Parse the dotted-quad text between {@code from} (inclusive) and {@code to} (exclusive).
+     * Each octet has one to three digits and a value of at most 255.
+     * @return The address as an unsigned value, or -1 if the text is not a valid IPv4 address
+     */
+    public static long parseBits(CharSequence text, int from, int to) {
+        long bits = 0;
+        int octets = 0;
+        int octet = 0;
+        int digits = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = octet * 10 + (c - '0');
+                if (++digits > 3 || octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && digits > 0 && octets < 3) {
+                bits = (bits << 8) | octet;
+                octets++;
+                octet = 0;
+                digits = 0;
+            } else {
+                return -1;
+            }
+        }
+        if (octets != 3 || digits == 0) {
+            return -1;
+        }
+        return (bits << 8) | octet;
+    }
+    
+    /**
+     * Check whether this address is in the same subnet as {@code network}.
+     */
+    public boolean isInSubnet(Ipv4 network, Netmask mask) {
+        int maskBits = mask.toInt();
+        return (bits & maskBits) == (network.bits() & maskBits);
+    }
+    
+    /**
+     * Dotted-quad text.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(15);
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            text.append((bits >>> shift) & 0xFF);
+            if (shift > 0) {
+                text.append('.');
+            }
+        }
+        return text.toString();
+    }
+}
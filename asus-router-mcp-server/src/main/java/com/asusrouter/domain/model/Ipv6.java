@@ -0,0 +1,161 @@
+package com.asusrouter.domain.model;
+
+/**
+ * Compact IPv6 address held in two longs.
+ * Text is parsed in a single pass; "::" compression and a trailing
+ * dotted-quad (e.g. ::ffff:192.168.1.1) are supported, zone ids are not.
+ *
+ * @param high the first 64 bits of the address
+ * @param low  the last 64 bits of the address
+ */
+public record Ipv6(long high, long low) {
+    
+    private static final int GROUPS = 8;
+    
+    /**
+     * Parse RFC 4291 text.
+     * @throws IllegalArgumentException if the text is not a valid IPv6 address
+     */
+    public static Ipv6 parse(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            throw new IllegalArgumentException("IPv6 address cannot be null or empty");
+        }
+        int length = text.length();
+        int[] groups = new int[GROUPS];
+        int count = 0;
+        int gap = -1;
+        int i = 0;
+        
+        if (text.charAt(0) == ':') {
+            if (length < 2 || text.charAt(1) != ':') {
+                throw invalid(text);
+            }
+            gap = 0;
+            i = 2;
+        }
+        
+        while (i < length) {
+            int start = i;
+            int group = 0;
+            while (i < length && i - start < 5) {
+                char c = text.charAt(i);
+                int digit = c < 128 ? Character.digit(c, 16) : -1;
+                if (digit < 0) {
+                    break;
+                }
+                group = (group << 4) | digit;
+                i++;
+            }
+            
+            if (i < length && text.charAt(i) == '.') {
+                // Trailing dotted-quad fills the last two groups
+                long ipv4 = Ipv4.parseBits(text, start, length);
+                if (ipv4 < 0 || count > GROUPS - 2) {
+                    throw invalid(text);
+                }
+                groups[count++] = (int) (ipv4 >>> 16);
+                groups[count++] = (int) (ipv4 & 0xFFFF);
+                i = length;
+                break;
+            }
+            if (i == start || i - start > 4 || count == GROUPS) {
+                throw invalid(text);
+            }
+            groups[count++] = group;
+            
+            if (i == length) {
+                break;
+            }
+            if (text.charAt(i) != ':') {
+                throw invalid(text);
+            }
+            i++;
+            if (i < length && text.charAt(i) == ':') {
+                if (gap >= 0) {
+                    throw invalid(text);
+                }
+                gap = count;
+                i++;
+            } else if (i == length) {
+                throw invalid(text);
+            }
+        }
+        
+        if (gap < 0 ? count != GROUPS : count == GROUPS) {
+            throw invalid(text);
+        }
+        
+        long high = 0;
+        long low = 0;
+        int fill = GROUPS - count;
+        for (int slot = 0, next = 0; slot < GROUPS; slot++) {
+            boolean zero = gap >= 0 && slot >= gap && slot < gap + fill;
+            int group = zero ? 0 : groups[next++];
+            if (slot < 4) {
+                high = (high << 16) | group;
+            } else {
+                low = (low << 16) | group;
+            }
+        }
+        return new Ipv6(high, low);
+    }
+    
+    private static IllegalArgumentException invalid(CharSequence text) {
+        return new IllegalArgumentException("Invalid IPv6 address format: " + text);
+    }
+    
+    /**
+     * Check whether this address is inside {@code network}/{@code prefixLength}.
+     */
+    public boolean isInPrefix(Ipv6 network, int prefixLength) {
+        if (prefixLength < 0 || prefixLength > 128) {
+            throw new IllegalArgumentException("Invalid IPv6 prefix length: " + prefixLength);
+        }
+        long highMask = prefixLength == 0 ? 0 : -1L << (64 - Math.min(prefixLength, 64));
+        long lowMask = prefixLength <= 64 ? 0 : -1L << (128 - prefixLength);
+        return (high & highMask) == (network.high() & highMask)
+            && (low & lowMask) == (network.low() & lowMask);
+    }
+    
+    private int group(int index) {
+        long half = index < 4 ? high : low;
+        return (int) (half >>> (48 - 16 * (index & 3))) & 0xFFFF;
+    }
+    
+    /**
+     * RFC 5952 text: lower-case hex and the longest run of zero groups as "::".
+     */
+    @Override
+    public String toString() {
+        int bestStart = -1;
+        int bestLength = 1;
+        for (int index = 0; index < GROUPS; ) {
+            if (group(index) != 0) {
+                index++;
+                continue;
+            }
+            int start = index;
+            while (index < GROUPS && group(index) == 0) {
+                index++;
+            }
+            if (index - start > bestLength) {
+                bestStart = start;
+                bestLength = index - start;
+            }
+        }
+        
+        StringBuilder text = new StringBuilder(39);
+        for (int index = 0; index < GROUPS; index++) {
+            if (index == bestStart) {
+                text.append("::");
+                index += bestLength - 1;
+                continue;
+            }
+            if (!text.isEmpty() && text.charAt(text.length() - 1) != ':') {
+                text.append(':');
+            }
+            text.append(Integer.toHexString(group(index)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package com.asusrouter.domain.model;
+
+/**
+ * Compact 48-bit MAC address held in a long.
+ * Equality and hashing work on the number, so separator and case do not matter.
+ * Text is parsed by hand without allocating.
+ *
+ * @param bits the address in the low 48 bits
+ */
+public record Mac48(long bits) {
+    
+    private static final long MAX_BITS = 0xFFFF_FFFF_FFFFL;
+    private static final int TEXT_LENGTH = 17;
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    
+    public Mac48 {
+        if (bits < 0 || bits > MAX_BITS) {
+            throw new IllegalArgumentException("MAC address out of 48-bit range: " + bits);
+        }
+    }
+    
+    /**
+     * Parse XX:XX:XX:XX:XX:XX or XX-XX-XX-XX-XX-XX, in any case.
+     * @throws IllegalArgumentException if the text is not a valid MAC address
+     */
+    public static Mac48 parse(CharSequence text) {
+        long bits = parseBits(text);
+        if (bits < 0) {
+            throw new IllegalArgumentException("Invalid MAC address format: " + text);
+        }
+        return new Mac48(bits);
+    }
+    
+    /**
+     * Parse a MAC address into its 48-bit numeric form without allocating.
+     * @return The address as a long, or -1 if the text is not a valid MAC address
+     */
+    public static long parseBits(CharSequence text) {
+        if (text == null || text.length() != TEXT_LENGTH) {
+            return -1;
+        }
+        long bits = 0;
+        for (int i = 0; i < TEXT_LENGTH; i += 3) {
+            int high = hexValue(text.charAt(i));
+            int low = hexValue(text.charAt(i + 1));
+            if ((high | low) < 0) {
+                return -1;
+            }
+            if (i + 2 < TEXT_LENGTH) {
+                char separator = text.charAt(i + 2);
+                if (separator != ':' && separator != '-') {
+                    return -1;
+                }
+            }
+            bits = (bits << 8) | (high << 4) | low;
+        }
+        return bits;
+    }
+    
+    /**
+     * Check that text is already in canonical form (upper-case, colon separated).
+     */
+    public static boolean isCanonical(CharSequence text) {
+        if (text == null || text.length() != TEXT_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < TEXT_LENGTH; i++) {
+            char c = text.charAt(i);
+            boolean valid = i % 3 == 2
+                ? c == ':'
+                : (c >= '0' && c <= '9') || (c >= 'A' && c <= 'F');
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+    
+    /**
+     * Canonical text, XX:XX:XX:XX:XX:XX in upper case.
+     */
+    @Override
+    public String toString() {
+        char[] text = new char[TEXT_LENGTH];
+        for (int i = 0, shift = 40; i < TEXT_LENGTH; i += 3, shift -= 8) {
+            int octet = (int) (bits >>> shift) & 0xFF;
+            text[i] = HEX_DIGITS[octet >>> 4];
+            text[i + 1] = HEX_DIGITS[octet & 0xF];
+            if (i + 2 < TEXT_LENGTH) {
+                text[i + 2] = ':';
+            }
+        }
+        return new String(text);
+    }
+}
@@ -1,33 +1,76 @@
 package com.asusrouter.domain.model;
 
 import com.asusrouter.mcp.annotations.McpParameter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 /**
  * Value object representing a MAC address.
  * Validates the format on construction.
  * Accepts both colon and hyphen separators.
+ * The text is parsed once; the 48-bit value and the canonical text are kept
+ * alongside it, so equality, hashing and normalization never parse again.
+ *
+ * @param value      the address as given
+ * @param compact    the 48-bit value of {@code value}
+ * @param normalized the canonical text of {@code value}
  */
 @McpParameter(
     pattern = "^([0-9A-Fa-f]{2}[:-]){5}([0-9A-Fa-f]{2})$",
     description = "Valid MAC address in format XX:XX:XX:XX:XX:XX or XX-XX-XX-XX-XX-XX"
 )
-public record MacAddress(String value) {
-    private static final String MAC_PATTERN = "^([0-9A-Fa-f]{2}[:-]){5}([0-9A-Fa-f]{2})$";
+public record MacAddress(String value, @JsonIgnore Mac48 compact, @JsonIgnore String normalized) {
     
     public MacAddress {
         if (value == null || value.isEmpty()) {
             throw new IllegalArgumentException("MAC address cannot be null or empty");
         }
-        if (!value.matches(MAC_PATTERN)) {
-            throw new IllegalArgumentException("Invalid MAC address format: " + value);
+        if (compact == null || normalized == null) {
+            throw new IllegalArgumentException("MAC address must be built from its text: " + value);
         }
     }
     
     /**
-     * Normalize MAC address to use colon separator and uppercase.
+     * Parse and validate a MAC address.
+     * @throws IllegalArgumentException if the text is not a valid MAC address
      */
-    public String normalized() {
-        return value.replace('-', ':').toUpperCase();
+    public MacAddress(String value) {
+        this(value, parse(value));
+    }
+    
+    private MacAddress(String value, Mac48 compact) {
+        this(value, compact, Mac48.isCanonical(value) ? value : compact.toString());
+    }
+    
+    private static Mac48 parse(String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("MAC address cannot be null or empty");
+        }
+        return Mac48.parse(value);
+    }
+    
+    /**
+     * 48-bit numeric form of the address, independent of separator and case.
+     */
+    public long toLong() {
+        return compact.bits();
+    }
+    
+    /**
+     * Parse a MAC address string into its 48-bit numeric form without allocating.
+     * @return The address as a long, or -1 if the text is not a valid MAC address
+     */
+    public static long parseKey(CharSequence text) {
+        return Mac48.parseBits(text);
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof MacAddress mac && compact.equals(mac.compact);
+    }
+    
+    @Override
+    public int hashCode() {
+        return compact.hashCode();
     }
     
     @Override
@@ -0,0 +1,38 @@
+package com.asusrouter.domain.model;
+
+import com.asusrouter.mcp.annotations.McpSchema;
+
+/**
+ * Aggregate of one metric over one time bucket.
+ *
+ * @param start bucket start, epoch milliseconds
+ * @param min   smallest sample in the bucket
+ * @param max   largest sample in the bucket
+ * @param avg   mean of the samples in the bucket
+ * @param last  most recent sample in the bucket
+ * @param count number of samples in the bucket
+ */
+@McpSchema(example = """
+{
+  "start": 1721651520000,
+  "min": 3.1,
+  "max": 18.4,
+  "avg": 7.9,
+  "last": 5.2,
+  "count": 60
+}
+""")
+public record MetricBucket(
+    long start,
+    double min,
+    double max,
+    double avg,
+    double last,
+    long count
+) {
+    public MetricBucket {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Bucket must hold at least one sample");
+        }
+    }
+}
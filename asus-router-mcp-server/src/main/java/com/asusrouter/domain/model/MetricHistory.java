@@ -0,0 +1,40 @@
+package com.asusrouter.domain.model;
+
+import java.util.List;
+
+import com.asusrouter.mcp.annotations.McpSchema;
+
+/**
+ * History of one metric over a time range at the resolution that fits the range.
+ *
+ * @param metric           metric name, e.g. cpu.average
+ * @param resolutionMillis bucket width: 1000 (raw), 60000 (1 minute) or 3600000 (1 hour)
+ * @param from             range start, epoch milliseconds
+ * @param to               range end, epoch milliseconds
+ * @param buckets          buckets in the range, oldest first
+ */
+@McpSchema(example = """
+{
+  "metric": "cpu.average",
+  "resolutionMillis": 3600000,
+  "from": 1721046720000,
+  "to": 1721651520000,
+  "buckets": [
+    {"start": 1721048400000, "min": 2.5, "max": 41.0, "avg": 8.3, "last": 6.1, "count": 3600}
+  ]
+}
+""")
+public record MetricHistory(
+    String metric,
+    long resolutionMillis,
+    long from,
+    long to,
+    List<MetricBucket> buckets
+) {
+    public MetricHistory {
+        if (metric == null || metric.isBlank()) {
+            throw new IllegalArgumentException("Metric name cannot be null or empty");
+        }
+        buckets = buckets == null ? List.of() : List.copyOf(buckets);
+    }
+}
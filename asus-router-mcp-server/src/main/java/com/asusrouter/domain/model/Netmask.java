@@ -1,33 +1,60 @@
 package com.asusrouter.domain.model;
 
 import com.asusrouter.mcp.annotations.McpParameter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 /**
  * Value object representing a network netmask.
- * Validates the format on construction.
+ * Validates the format on construction and keeps the parsed 32-bit mask.
+ *
+ * @param value the mask as given
+ * @param bits  the 32-bit mask, first octet in the high byte
  */
 @McpParameter(
     pattern = "^(?:[0-9]{1,3}\\.){3}[0-9]{1,3}$",
     description = "Valid netmask in format XXX.XXX.XXX.XXX"
 )
-public record Netmask(String value) {
-    private static final String NETMASK_PATTERN = "^(?:[0-9]{1,3}\\.){3}[0-9]{1,3}$";
+public record Netmask(String value, @JsonIgnore int bits) {
     
     public Netmask {
         if (value == null || value.isEmpty()) {
             throw new IllegalArgumentException("Netmask cannot be null or empty");
         }
-        if (!value.matches(NETMASK_PATTERN)) {
-            throw new IllegalArgumentException("Invalid netmask format: " + value);
+    }
+    
+    /**
+     * Parse and validate a netmask.
+     * @throws IllegalArgumentException if the text is not a valid dotted-quad mask
+     */
+    public Netmask(String value) {
+        this(value, parse(value));
+    }
+    
+    private static int parse(String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Netmask cannot be null or empty");
         }
-        // Validate each octet is 0-255
-        String[] octets = value.split("\\.");
-        for (String octet : octets) {
-            int num = Integer.parseInt(octet);
-            if (num < 0 || num > 255) {
-                throw new IllegalArgumentException("Invalid netmask octet: " + octet);
-            }
+        long bits = Ipv4.parseBits(value);
+        if (bits < 0) {
+            throw new IllegalArgumentException("Invalid netmask format: " + value);
         }
+        return (int) bits;
+    }
+    
+    /**
+     * 32-bit numeric form of the mask, first octet in the high byte.
+     */
+    public int toInt() {
+        return bits;
+    }
+    
+    /**
+     * CIDR prefix length, e.g. 24 for 255.255.255.0.
+     * @return The prefix length, or -1 if the mask bits are not contiguous
+     */
+    public int prefixLength() {
+        int prefix = Integer.bitCount(bits);
+        return bits == (prefix == 0 ? 0 : -1 << (32 - prefix)) ? prefix : -1;
     }
     
     @Override
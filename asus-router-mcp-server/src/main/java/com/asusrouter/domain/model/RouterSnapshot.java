@@ -0,0 +1,61 @@
+package com.asusrouter.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consistent view of the router captured at one instant.
+ * Immutable: a newer capture replaces the whole snapshot. A section that
+ * could not be read is null and its error message is kept in {@code errors}.
+ *
+ * @param capturedAt time all sections were captured
+ * @param uptime     router uptime
+ * @param memory     memory usage
+ * @param cpu        CPU usage counters
+ * @param wan        WAN connection status
+ * @param clients    online clients
+ * @param leases     DHCP leases
+ * @param errors     error message per failed section name
+ */
+public record RouterSnapshot(
+    Instant capturedAt,
+    Uptime uptime,
+    MemoryUsage memory,
+    CpuUsage cpu,
+    WanStatus wan,
+    List<OnlineClient> clients,
+    List<DhcpLease> leases,
+    Map<String, String> errors
+) {
+    public static final String UPTIME = "uptime";
+    public static final String MEMORY = "memory";
+    public static final String CPU = "cpu";
+    public static final String WAN = "wan";
+    public static final String CLIENTS = "clients";
+    public static final String LEASES = "leases";
+    
+    public RouterSnapshot {
+        if (capturedAt == null) {
+            throw new IllegalArgumentException("Capture time cannot be null");
+        }
+        clients = clients == null ? null : List.copyOf(clients);
+        leases = leases == null ? null : List.copyOf(leases);
+        errors = errors == null ? Map.of() : Map.copyOf(errors);
+    }
+    
+    /**
+     * Error message of a section that could not be read.
+     * @return The message, or null if the section was read
+     */
+    public String errorOf(String section) {
+        return errors.get(section);
+    }
+    
+    /**
+     * Whether the snapshot was captured before {@code other}.
+     */
+    public boolean isOlderThan(RouterSnapshot other) {
+        return capturedAt.isBefore(other.capturedAt());
+    }
+}
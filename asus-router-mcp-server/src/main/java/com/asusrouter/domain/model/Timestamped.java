@@ -0,0 +1,34 @@
+package com.asusrouter.domain.model;
+
+import java.util.function.Function;
+
+/**
+ * A value together with how old it was when served.
+ * Used for data answered from the last snapshot while a refresh runs.
+ *
+ * @param value the data
+ * @param ageMillis time since the data was fetched from the router
+ * @param stale true if the data is past its freshness window and a refresh was started
+ */
+public record Timestamped<T>(T value, long ageMillis, boolean stale) {
+    
+    public Timestamped {
+        if (ageMillis < 0) {
+            throw new IllegalArgumentException("Age cannot be negative");
+        }
+    }
+    
+    /**
+     * Wrap freshly fetched data.
+     */
+    public static <T> Timestamped<T> fresh(T value) {
+        return new Timestamped<>(value, 0, false);
+    }
+    
+    /**
+     * Apply a transformation to the value, keeping the age marker.
+     */
+    public <R> Timestamped<R> map(Function<? super T, ? extends R> mapper) {
+        return new Timestamped<>(mapper.apply(value), ageMillis, stale);
+    }
+}
@@ -3,7 +3,8 @@ package com.asusrouter.domain.model;
 import com.asusrouter.mcp.annotations.McpSchema;
 
 /**
- * Represents current network traffic speed (in Kilobits per second).
+ * Represents current network traffic speed (in Megabits per second),
+ * measured between the latest two netdev counter samples.
  */
 @McpSchema(example = """
 {
@@ -5,6 +5,7 @@ import com.asusrouter.mcp.annotations.McpSchema;
 
 /**
  * Represents WAN connection status.
+ * Addresses may be IPv4 or IPv6 on a dual-stack WAN.
  */
 @McpSchema(example = """
 {
@@ -20,16 +21,16 @@ public record WanStatus(
     String status,
     int statusCode,
     
-    @McpParameter(description = "WAN IP address", pattern = "^(?:[0-9]{1,3}\\.){3}[0-9]{1,3}$")
+    @McpParameter(description = "WAN IPv4 or IPv6 address", pattern = "^(?:(?:[0-9]{1,3}\\.){3}[0-9]{1,3}|[0-9A-Fa-f:.]*:[0-9A-Fa-f:.]*)$")
     IpAddress ip,
     
-    @McpParameter(description = "Gateway IP address", pattern = "^(?:[0-9]{1,3}\\.){3}[0-9]{1,3}$")
+    @McpParameter(description = "Gateway IPv4 or IPv6 address", pattern = "^(?:(?:[0-9]{1,3}\\.){3}[0-9]{1,3}|[0-9A-Fa-f:.]*:[0-9A-Fa-f:.]*)$")
     IpAddress gateway,
     
     @McpParameter(description = "Network mask", pattern = "^(?:[0-9]{1,3}\\.){3}[0-9]{1,3}$")
     Netmask mask,
     
-    @McpParameter(description = "DNS server addresses")
+    @McpParameter(description = "DNS server addresses, IPv4 or IPv6")
     java.util.List<IpAddress> dns
 ) {
     public WanStatus {
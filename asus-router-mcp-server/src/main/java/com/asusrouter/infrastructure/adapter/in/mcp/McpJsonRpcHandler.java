@@ -1,22 +1,30 @@
 package com.asusrouter.infrastructure.adapter.in.mcp;
 
-import com.asusrouter.application.port.in.*;
 import com.asusrouter.domain.exception.RouterException;
-import com.asusrouter.domain.model.MacAddress;
 import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcError;
 import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcRequest;
 import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcResponse;
+import com.asusrouter.infrastructure.adapter.in.mcp.protocol.RawJson;
+import com.asusrouter.infrastructure.adapters.in.mcp.generated.McpToolDispatcher;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 /**
  * Handles MCP tool invocations via JSON-RPC 2.0.
- * Routes method calls to appropriate use cases.
+ * Routes method calls to appropriate use cases through the
+ * {@link McpToolDispatcher} generated from the @McpTool interfaces.
  */
 @Component
 @RequiredArgsConstructor
@@ -25,24 +33,10 @@ public class McpJsonRpcHandler {
     
     private final ObjectMapper objectMapper;
     
-    // Inject all 17 use cases
-    private final GetUptimeUseCase getUptimeUseCase;
-    private final GetMemoryUsageUseCase getMemoryUsageUseCase;
-    private final GetCpuUsageUseCase getCpuUsageUseCase;
-    private final GetTrafficTotalUseCase getTrafficTotalUseCase;
-    private final GetTrafficUseCase getTrafficUseCase;
-    private final GetWanStatusUseCase getWanStatusUseCase;
-    private final GetClientFullInfoUseCase getClientFullInfoUseCase;
-    private final GetClientInfoSummaryUseCase getClientInfoSummaryUseCase;
-    private final GetOnlineClientsUseCase getOnlineClientsUseCase;
-    private final GetDhcpLeasesUseCase getDhcpLeasesUseCase;
-    private final GetSettingsUseCase getSettingsUseCase;
-    private final GetNvramUseCase getNvramUseCase;
-    private final GetClientListUseCase getClientListUseCase;
-    private final GetNetworkDeviceListUseCase getNetworkDeviceListUseCase;
-    private final GetWanLinkUseCase getWanLinkUseCase;
-    private final IsAliveUseCase isAliveUseCase;
-    private final ShowRouterInfoUseCase showRouterInfoUseCase;
+    // Generated from the @McpTool use case interfaces
+    private final McpToolDispatcher toolDispatcher;
+    
+    private final McpToolCatalog toolCatalog;
     
     /**
      * Handle incoming JSON-RPC request.
@@ -51,9 +45,11 @@ public class McpJsonRpcHandler {
         try {
             log.debug("Handling MCP request: method={}, id={}", request.getMethod(), request.getId());
             
-            if (request.getMethod() == null) {
+            if (!request.isValid()) {
                 return JsonRpcResponse.error(
-                    JsonRpcError.invalidRequest("Method is required"),
+                    JsonRpcError.invalidRequest(request.getMethod() == null
+                        ? "Method is required"
+                        : "Unsupported jsonrpc version: " + request.getJsonrpc()),
                     request.getId()
                 );
             }
@@ -83,88 +79,92 @@ public class McpJsonRpcHandler {
     }
     
     /**
-     * Dispatch method call to appropriate use case.
+     * Handle a JSON-RPC 2.0 batch (array of requests).
+     * Calls run in parallel, each holding one of the transport's permits, so a
+     * large batch stays within mcp.server.max-concurrent-requests; concurrent
+     * router reads are combined by the router adapter. Invalid entries (not an
+     * object, or without jsonrpc "2.0" and a method) get an Invalid Request error
+     * with a null id; valid notifications get no entry at all.
+     * @param batch Non-empty JSON array
+     * @param permits Shared request limit; the caller must not hold a permit itself
+     * @return Responses in request order; empty if the batch held only notifications
      */
-    private Object dispatch(String method, Object params) {
-        JsonNode paramsNode = objectMapper.valueToTree(params);
+    public List<JsonRpcResponse> handleBatch(JsonNode batch, Semaphore permits) {
+        List<JsonRpcResponse> responses = new ArrayList<>();
+        List<JsonRpcRequest> requests = new ArrayList<>();
+        List<CompletableFuture<JsonRpcResponse>> pending = new ArrayList<>();
         
-        return switch (method) {
-            case "asus_router_get_uptime" -> getUptimeUseCase.execute();
-            case "asus_router_get_memory_usage" -> getMemoryUsageUseCase.execute();
-            case "asus_router_get_cpu_usage" -> getCpuUsageUseCase.execute();
-            case "asus_router_get_traffic_total" -> getTrafficTotalUseCase.execute();
-            case "asus_router_get_traffic" -> getTrafficUseCase.execute();
-            case "asus_router_get_wan_status" -> getWanStatusUseCase.execute();
-            case "asus_router_get_online_clients" -> getOnlineClientsUseCase.execute();
-            case "asus_router_get_dhcp_leases" -> getDhcpLeasesUseCase.execute();
-            case "asus_router_get_settings" -> getSettingsUseCase.execute();
-            case "asus_router_is_alive" -> isAliveUseCase.execute();
-            
-            case "asus_router_get_client_full_info" -> {
-                String mac = paramsNode.path("mac").asText();
-                yield getClientFullInfoUseCase.execute(new MacAddress(mac));
-            }
-            
-            case "asus_router_get_client_info_summary" -> {
-                String mac = paramsNode.path("mac").asText();
-                yield getClientInfoSummaryUseCase.execute(new MacAddress(mac));
-            }
-            
-            case "asus_router_get_nvram" -> {
-                String command = paramsNode.path("nvram_command").asText();
-                yield getNvramUseCase.execute(command);
-            }
-            
-            case "asus_router_get_client_list" -> {
-                Integer format = paramsNode.path("format").isNull() ? null : paramsNode.path("format").asInt();
-                yield getClientListUseCase.execute(format);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (JsonNode element : batch) {
+                JsonRpcRequest request = toRequest(element);
+                if (request == null) {
+                    pending.add(CompletableFuture.completedFuture(JsonRpcResponse.error(
+                        JsonRpcError.invalidRequest("Batch entry must be a JSON-RPC 2.0 request object"), null)));
+                    requests.add(null);
+                    continue;
+                }
+                requests.add(request);
+                pending.add(submit(request, executor, permits));
             }
-            
-            case "asus_router_get_network_device_list" -> {
-                String deviceName = paramsNode.path("device_name").isNull() ? null : paramsNode.path("device_name").asText();
-                yield getNetworkDeviceListUseCase.execute(deviceName);
-            }
-            
-            case "asus_router_get_wan_link" -> {
-                Integer unit = paramsNode.path("unit").isNull() ? null : paramsNode.path("unit").asInt();
-                yield getWanLinkUseCase.execute(unit);
-            }
-            
-            case "asus_router_show_info" -> {
-                Boolean detailed = paramsNode.path("detailed").isNull() ? null : paramsNode.path("detailed").asBoolean();
-                yield showRouterInfoUseCase.execute(detailed);
+        }
+        
+        for (int i = 0; i < pending.size(); i++) {
+            JsonRpcRequest request = requests.get(i);
+            if (request == null || !request.isNotification()) {
+                responses.add(pending.get(i).join());
             }
-            
-            case "tools/list" -> listTools();
-            
-            default -> throw new IllegalArgumentException("Unknown method: " + method);
-        };
+        }
+        return responses;
     }
     
     /**
-     * List all available MCP tools.
+     * Start one batch call once a permit is free.
      */
-    private Map<String, Object> listTools() {
-        return Map.of(
-            "tools", new String[]{
-                "asus_router_get_uptime",
-                "asus_router_get_memory_usage",
-                "asus_router_get_cpu_usage",
-                "asus_router_get_traffic_total",
-                "asus_router_get_traffic",
-                "asus_router_get_wan_status",
-                "asus_router_get_client_full_info",
-                "asus_router_get_client_info_summary",
-                "asus_router_get_online_clients",
-                "asus_router_get_dhcp_leases",
-                "asus_router_get_settings",
-                "asus_router_get_nvram",
-                "asus_router_get_client_list",
-                "asus_router_get_network_device_list",
-                "asus_router_get_wan_link",
-                "asus_router_is_alive",
-                "asus_router_show_info"
+    private CompletableFuture<JsonRpcResponse> submit(JsonRpcRequest request, ExecutorService executor,
+                                                      Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.completedFuture(JsonRpcResponse.error(
+                JsonRpcError.internalError("Interrupted before the call started"), request.getId()));
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return handleRequest(request);
+            } finally {
+                permits.release();
             }
-        );
+        }, executor);
+    }
+    
+    private JsonRpcRequest toRequest(JsonNode element) {
+        if (!element.isObject()) {
+            return null;
+        }
+        try {
+            JsonRpcRequest request = objectMapper.treeToValue(element, JsonRpcRequest.class);
+            return request.isValid() ? request : null;
+        } catch (JsonProcessingException e) {
+            log.error("Invalid batch entry: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Dispatch method call to appropriate use case.
+     */
+    private Object dispatch(String method, Object params) throws IOException {
+        if ("tools/list".equals(method)) {
+            return listTools();
+        }
+        return toolDispatcher.dispatch(method, params);
+    }
+    
+    /**
+     * List all available MCP tools with their input schemas (pre-encoded).
+     */
+    private RawJson listTools() {
+        return toolCatalog.toolsList();
     }
 }
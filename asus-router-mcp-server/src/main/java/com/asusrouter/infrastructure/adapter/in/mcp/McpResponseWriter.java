@@ -0,0 +1,169 @@
+package com.asusrouter.infrastructure.adapter.in.mcp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcError;
+import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single writer for MCP responses on stdout.
+ * Requests complete on many threads; this class funnels their responses
+ * through one thread so lines are never interleaved.
+ * Responses are serialized straight into one reusable byte buffer, and the
+ * buffer is written and flushed once per burst: everything already queued
+ * when the writer wakes up goes out in a single write.
+ * A response that cannot be serialized is replaced by an Internal error
+ * for the same id, so no request is left without a reply.
+ */
+@Slf4j
+final class McpResponseWriter implements AutoCloseable {
+    
+    private static final Object END_OF_STREAM = new Object();
+    
+    /** Write the buffer early if a burst grows beyond this many bytes. */
+    private static final int MAX_BURST_BYTES = 64 * 1024;
+    
+    private final ObjectMapper objectMapper;
+    private final OutputStream out;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final Thread thread;
+    private JsonGenerator generator;
+    
+    McpResponseWriter(ObjectMapper objectMapper, OutputStream out) {
+        this.objectMapper = objectMapper;
+        this.out = out;
+        this.thread = Thread.ofPlatform().name("mcp-stdout-writer").daemon().start(this::drain);
+    }
+    
+    /**
+     * Queue one JSON-RPC response (or batch of responses) for writing.
+     */
+    void send(Object response) {
+        queue.add(response);
+    }
+    
+    private void drain() {
+        try {
+            while (true) {
+                Object response = queue.take();
+                int count = 0;
+                while (response != END_OF_STREAM) {
+                    serialize(response);
+                    count++;
+                    if (buffer.size() >= MAX_BURST_BYTES) {
+                        flush(count);
+                        count = 0;
+                    }
+                    response = queue.poll();
+                    if (response == null) {
+                        break;
+                    }
+                }
+                flush(count);
+                if (response == END_OF_STREAM) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void serialize(Object response) {
+        if (!tryWrite(response)) {
+            Object fallback = internalError(response);
+            if (fallback == null || !tryWrite(fallback)) {
+                log.error("Dropped response that could not be serialized: {}", response);
+            }
+        }
+    }
+    
+    /**
+     * Serialize one line into the buffer.
+     * @return false if serialization failed; partial output is discarded
+     */
+    private boolean tryWrite(Object response) {
+        int mark = buffer.size();
+        try {
+            if (generator == null) {
+                generator = objectMapper.getFactory().createGenerator(buffer);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // Lines are framed by the newline written below, not Jackson's default space
+                generator.setRootValueSeparator(null);
+            }
+            objectMapper.writeValue(generator, response);
+            generator.writeRaw('\n');
+            generator.flush();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to serialize response", e);
+            // Drop the partial output and start over with a fresh generator
+            generator = null;
+            byte[] kept = buffer.toByteArray();
+            buffer.reset();
+            buffer.write(kept, 0, mark);
+            return false;
+        }
+    }
+    
+    /**
+     * Internal error replies for the ids of a response or a batch of responses.
+     * @return Replacement response, or null if there is no id to answer
+     */
+    private static Object internalError(Object response) {
+        if (response instanceof JsonRpcResponse single) {
+            return failed(single);
+        }
+        if (response instanceof Collection<?> batch) {
+            List<JsonRpcResponse> errors = new ArrayList<>(batch.size());
+            for (Object entry : batch) {
+                if (entry instanceof JsonRpcResponse single) {
+                    errors.add(failed(single));
+                }
+            }
+            return errors.isEmpty() ? null : errors;
+        }
+        return null;
+    }
+    
+    private static JsonRpcResponse failed(JsonRpcResponse response) {
+        return JsonRpcResponse.error(
+            JsonRpcError.internalError("Failed to serialize response"), response.getId());
+    }
+    
+    private void flush(int count) {
+        if (buffer.size() == 0) {
+            return;
+        }
+        try {
+            buffer.writeTo(out);
+            out.flush();
+            log.debug("Sent {} response(s), {} bytes", count, buffer.size());
+        } catch (IOException e) {
+            log.error("Failed to write responses to stdout", e);
+        } finally {
+            buffer.reset();
+        }
+    }
+    
+    /**
+     * Write everything queued so far, then stop the writer thread.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        queue.add(END_OF_STREAM);
+        thread.join();
+    }
+}
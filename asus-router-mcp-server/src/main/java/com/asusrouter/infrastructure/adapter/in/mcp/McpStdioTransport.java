@@ -1,8 +1,11 @@
 package com.asusrouter.infrastructure.adapter.in.mcp;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
@@ -10,7 +13,13 @@ import org.springframework.stereotype.Component;
 import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcError;
 import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcRequest;
 import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcResponse;
+import com.asusrouter.infrastructure.config.McpServerProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +27,12 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * MCP stdio transport layer.
  * Reads JSON-RPC requests from stdin, writes responses to stdout.
+ * Requests are decoded from the raw byte stream by {@link McpStreamReader}.
  * This is the primary interface for AI assistant integration.
+ * Requests run concurrently on virtual threads (bounded by
+ * mcp.server.max-concurrent-requests), so a slow router call does not
+ * block the requests queued behind it. Responses are written in completion
+ * order by a single writer; clients correlate them by JSON-RPC id.
  * 
  * Note: Disabled during Spring Boot tests (profile != test) to prevent
  * stream closed errors when stdin is unavailable.
@@ -31,6 +45,7 @@ public class McpStdioTransport implements CommandLineRunner {
     
     private final ObjectMapper objectMapper;
     private final McpJsonRpcHandler jsonRpcHandler;
+    private final McpServerProperties mcpServerProperties;
     
     @Override
     public void run(String... args) throws Exception {
@@ -54,22 +69,44 @@ public class McpStdioTransport implements CommandLineRunner {
         
         // System.out is intentionally used here for MCP protocol communication (not logging)
         @SuppressWarnings("squid:S106") // System.out required for MCP JSON-RPC 2.0 protocol
-        PrintWriter writer = new PrintWriter(System.out, true);
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
-             writer) {
+        OutputStream stdout = System.out;
+        serve(System.in, stdout);
+    }
+    
+    /**
+     * Serve requests from the input until it ends, writing responses to the output.
+     */
+    void serve(InputStream input, OutputStream output) throws Exception {
+        Semaphore permits = new Semaphore(Math.max(1, mcpServerProperties.getMaxConcurrentRequests()));
+        
+        // Closed in reverse order: wait for in-flight requests, then flush their responses
+        try (McpResponseWriter responses = new McpResponseWriter(objectMapper, output);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
             
-            String line;
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
-                
-                if (line.isEmpty()) {
-                    continue;
+            new McpStreamReader(objectMapper, input).readAll(new McpStreamReader.MessageHandler() {
+                @Override
+                public void onMessage(TokenBuffer message) throws InterruptedException {
+                    if (message.firstToken() == JsonToken.START_ARRAY) {
+                        // Batch entries take their own permits; also holding one here could deadlock
+                        executor.execute(() -> processMessage(message, responses, permits));
+                        return;
+                    }
+                    permits.acquire();
+                    executor.execute(() -> {
+                        try {
+                            processMessage(message, responses, permits);
+                        } finally {
+                            permits.release();
+                        }
+                    });
                 }
                 
-                log.debug("Received: {}", line);
-                
-                processRequest(line, writer);
-            }
+                @Override
+                public void onParseError(String detail) {
+                    log.error("JSON parsing error: {}", detail);
+                    sendErrorResponse(responses, detail);
+                }
+            });
             
             log.info("MCP stdio transport shutting down");
             
@@ -80,53 +117,75 @@ public class McpStdioTransport implements CommandLineRunner {
     }
     
     /**
-     * Process a single JSON-RPC request.
+     * Process one decoded JSON-RPC request or batch of requests.
      * Extracted method to improve code structure and testability.
      */
-    private void processRequest(String line, PrintWriter writer) {
-        try {
+    private void processMessage(TokenBuffer message, McpResponseWriter responses, Semaphore permits) {
+        try (JsonParser parser = message.asParser(objectMapper)) {
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                processBatch(objectMapper.readTree(parser), responses, permits);
+                return;
+            }
+            
             // Parse JSON-RPC request
-            JsonRpcRequest request = objectMapper.readValue(line, JsonRpcRequest.class);
+            JsonRpcRequest request = objectMapper.readValue(parser, JsonRpcRequest.class);
             
             // Handle request
             JsonRpcResponse response = jsonRpcHandler.handleRequest(request);
             
-            // Write response to stdout
-            String responseJson = objectMapper.writeValueAsString(response);
-            writer.println(responseJson);
-            writer.flush();
+            // Valid notifications get no response (JSON-RPC 2.0, section 4.1);
+            // a malformed request is answered with Invalid Request even without an id
+            if (request.isNotification() && request.isValid()) {
+                return;
+            }
             
-            log.debug("Sent: {}", responseJson);
+            // Queue response for the stdout writer, which serializes it
+            responses.send(response);
             
-        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-            log.error("JSON parsing error: {}", line, e);
-            sendErrorResponse(writer, e.getMessage());
+        } catch (JsonProcessingException e) {
+            log.error("JSON parsing error: {}", e.getOriginalMessage());
+            sendErrorResponse(responses, e.getMessage());
             
         } catch (IllegalArgumentException e) {
-            log.error("Invalid request: {}", line, e);
-            sendErrorResponse(writer, e.getMessage());
+            log.error("Invalid request: {}", e.getMessage());
+            sendErrorResponse(responses, e.getMessage());
             
         } catch (Exception e) {
-            log.error("Unexpected error processing request: {}", line, e);
-            sendErrorResponse(writer, e.getMessage());
+            log.error("Unexpected error processing request", e);
+            sendErrorResponse(responses, e.getMessage());
         }
     }
     
     /**
-     * Send an error response to the client.
+     * Process a JSON-RPC batch and write one response array.
      */
-    private void sendErrorResponse(PrintWriter writer, String errorMessage) {
-        try {
+    private void processBatch(JsonNode batch, McpResponseWriter responses, Semaphore permits) {
+        if (!batch.isArray() || batch.isEmpty()) {
             JsonRpcResponse errorResponse = JsonRpcResponse.error(
-                JsonRpcError.parseError(errorMessage),
+                JsonRpcError.invalidRequest("Batch must be a non-empty array"),
                 null
             );
-            
-            String errorJson = objectMapper.writeValueAsString(errorResponse);
-            writer.println(errorJson);
-            writer.flush();
-        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-            log.error("Failed to send error response", e);
+            responses.send(errorResponse);
+            return;
+        }
+        
+        List<JsonRpcResponse> batchResponses = jsonRpcHandler.handleBatch(batch, permits);
+        
+        // A batch of only notifications gets no response at all
+        if (!batchResponses.isEmpty()) {
+            responses.send(batchResponses);
         }
     }
+    
+    /**
+     * Send an error response to the client.
+     */
+    private void sendErrorResponse(McpResponseWriter responses, String errorMessage) {
+        JsonRpcResponse errorResponse = JsonRpcResponse.error(
+            JsonRpcError.parseError(errorMessage),
+            null
+        );
+        
+        responses.send(errorResponse);
+    }
 }
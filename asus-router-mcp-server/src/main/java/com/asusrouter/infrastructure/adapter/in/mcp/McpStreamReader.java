@@ -0,0 +1,143 @@
+package com.asusrouter.infrastructure.adapter.in.mcp;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams JSON-RPC messages straight from the stdin byte stream.
+ * Bytes are read into one reusable buffer and fed to Jackson's non-blocking
+ * parser; each complete top-level JSON value is captured as a token buffer,
+ * so no line Strings or intermediate trees are created. Messages may span
+ * reads of any size; newlines delimit messages, so a message left open at the
+ * end of its line, or any malformed input, is reported as a parse error and
+ * reading resumes at the next line.
+ */
+@Slf4j
+final class McpStreamReader {
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    /**
+     * Receives decoded messages and parse errors.
+     */
+    interface MessageHandler {
+        void onMessage(TokenBuffer message) throws InterruptedException;
+        
+        void onParseError(String detail);
+    }
+    
+    private final ObjectMapper objectMapper;
+    private final InputStream input;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    
+    private JsonParser parser;
+    private ByteArrayFeeder feeder;
+    private TokenBuffer message;
+    private int depth;
+    private boolean skipToNextLine;
+    
+    McpStreamReader(ObjectMapper objectMapper, InputStream input) {
+        this.objectMapper = objectMapper;
+        this.input = input;
+    }
+    
+    /**
+     * Read until end of input, passing every complete message to the handler.
+     */
+    void readAll(MessageHandler handler) throws IOException, InterruptedException {
+        resetParser();
+        int count;
+        while ((count = input.read(buffer)) != -1) {
+            consume(0, count, handler);
+        }
+        if (skipToNextLine) {
+            return;
+        }
+        feeder.endOfInput();
+        try {
+            drain(handler);
+        } catch (JsonProcessingException e) {
+            handler.onParseError(e.getOriginalMessage());
+        }
+    }
+    
+    /**
+     * Feed the parser one line segment at a time. A message that is still open
+     * when its line ends is rejected, as is any line the parser cannot decode.
+     */
+    private void consume(int from, int to, MessageHandler handler) throws IOException, InterruptedException {
+        int position = from;
+        while (position < to) {
+            int newline = indexOfNewline(position, to);
+            int segmentEnd = newline < 0 ? to : newline + 1;
+            
+            if (!skipToNextLine) {
+                feeder.feedInput(buffer, position, segmentEnd);
+                try {
+                    drain(handler);
+                    if (newline >= 0 && message != null) {
+                        handler.onParseError("Incomplete JSON-RPC message at end of line");
+                        resetParser();
+                    }
+                } catch (JsonProcessingException e) {
+                    handler.onParseError(e.getOriginalMessage());
+                    resetParser();
+                    skipToNextLine = newline < 0;
+                }
+            } else if (newline >= 0) {
+                skipToNextLine = false;
+            }
+            position = segmentEnd;
+        }
+    }
+    
+    private void drain(MessageHandler handler) throws IOException, InterruptedException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (message == null) {
+                message = new TokenBuffer(parser);
+            }
+            message.copyCurrentEvent(parser);
+            
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            
+            if (depth == 0) {
+                TokenBuffer complete = message;
+                message = null;
+                handler.onMessage(complete);
+            }
+        }
+    }
+    
+    private void resetParser() throws IOException {
+        if (parser != null) {
+            parser.close();
+        }
+        parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        message = null;
+        depth = 0;
+    }
+    
+    private int indexOfNewline(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
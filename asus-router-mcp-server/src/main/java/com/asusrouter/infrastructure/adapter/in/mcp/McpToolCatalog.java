@@ -0,0 +1,53 @@
+package com.asusrouter.infrastructure.adapter.in.mcp;
+
+import com.asusrouter.infrastructure.adapter.in.mcp.protocol.RawJson;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * The tools/list result, loaded once from the generated/mcp-tools.json
+ * document that McpAnnotationProcessor writes at compile time.
+ * Each tool carries its name, description and full inputSchema; the
+ * document is compacted and pre-encoded so every tools/list call only
+ * copies bytes.
+ */
+@Component
+@Slf4j
+public class McpToolCatalog {
+    
+    static final String RESOURCE = "generated/mcp-tools.json";
+    
+    private final RawJson toolsList;
+    private final int toolCount;
+    
+    public McpToolCatalog(ObjectMapper objectMapper) {
+        try (InputStream input = McpToolCatalog.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException(RESOURCE + " not found; it is generated by McpAnnotationProcessor");
+            }
+            JsonNode document = objectMapper.readTree(input);
+            this.toolCount = document.path("tools").size();
+            this.toolsList = RawJson.preEncoded(objectMapper.writeValueAsString(document));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load " + RESOURCE, e);
+        }
+        log.debug("Loaded {} MCP tool definitions", toolCount);
+    }
+    
+    /**
+     * Result of tools/list: {"tools":[{"name","description","inputSchema"}, ...]}.
+     */
+    public RawJson toolsList() {
+        return toolsList;
+    }
+    
+    public int toolCount() {
+        return toolCount;
+    }
+}
@@ -1,6 +1,9 @@
 package com.asusrouter.infrastructure.adapter.in.mcp.protocol;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,6 +20,11 @@ public class JsonRpcRequest {
     
     private String jsonrpc = "2.0";
     private String method;
+    
+    /**
+     * Kept as tokens when decoded so tool parameters are bound straight from them.
+     */
+    @JsonDeserialize(as = TokenBuffer.class)
     private Object params;
     private Object id;
     
@@ -26,4 +34,13 @@ public class JsonRpcRequest {
     public boolean isNotification() {
         return id == null;
     }
+    
+    /**
+     * Check that this is a JSON-RPC 2.0 request with a method.
+     * An invalid request is answered with Invalid Request even without an id.
+     */
+    @JsonIgnore
+    public boolean isValid() {
+        return "2.0".equals(jsonrpc) && method != null;
+    }
 }
@@ -0,0 +1,107 @@
+package com.asusrouter.infrastructure.adapter.in.mcp.protocol;
+
+import com.asusrouter.domain.model.Timestamped;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * Result value that is already valid JSON and is written into the response as-is.
+ * Used for the pre-encoded tools/list document and for router JSON documents
+ * that tools pass straight through instead of escaping them into a string.
+ */
+public final class RawJson implements JsonSerializable {
+    
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    
+    private final String json;
+    
+    /** UTF-8 bytes encoded up front for values written many times; null otherwise. */
+    private final SerializedString encoded;
+    
+    private RawJson(String json, boolean preEncode) {
+        this.json = json;
+        if (preEncode) {
+            this.encoded = new SerializedString(json);
+            this.encoded.asUnquotedUTF8();
+        } else {
+            this.encoded = null;
+        }
+    }
+    
+    /**
+     * Wrap a JSON document. The caller guarantees it is valid JSON.
+     */
+    public static RawJson of(String json) {
+        return new RawJson(json, false);
+    }
+    
+    /**
+     * Wrap a JSON document that is served repeatedly; its UTF-8 bytes are
+     * encoded once and copied into the output on every write.
+     */
+    public static RawJson preEncoded(String json) {
+        return new RawJson(json, true);
+    }
+    
+    /**
+     * Pass a router JSON document through unescaped.
+     * A String (also inside {@link Timestamped}) that holds a complete JSON
+     * object or array becomes RawJson; anything else is returned unchanged
+     * and is serialized as usual.
+     */
+    public static Object passThrough(Object result) {
+        if (result instanceof String text) {
+            return isJsonDocument(text) ? of(text) : text;
+        }
+        if (result instanceof Timestamped<?> timestamped && timestamped.value() instanceof String) {
+            return timestamped.map(RawJson::passThrough);
+        }
+        return result;
+    }
+    
+    /**
+     * Cheap validity check: tokenize once without building values.
+     */
+    static boolean isJsonDocument(String text) {
+        int start = 0;
+        while (start < text.length() && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        if (start == text.length() || (text.charAt(start) != '{' && text.charAt(start) != '[')) {
+            return false;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(text)) {
+            parser.nextToken();
+            parser.skipChildren();
+            return parser.nextToken() == null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+    
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (encoded != null) {
+            gen.writeRawValue(encoded);
+        } else {
+            gen.writeRawValue(json);
+        }
+    }
+    
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+    
+    @Override
+    public String toString() {
+        return json;
+    }
+}
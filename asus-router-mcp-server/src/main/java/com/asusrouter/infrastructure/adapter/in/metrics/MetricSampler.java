@@ -0,0 +1,84 @@
+package com.asusrouter.infrastructure.adapter.in.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.application.port.in.GetCpuUtilizationUseCase;
+import com.asusrouter.application.port.in.GetMemoryUsageUseCase;
+import com.asusrouter.application.port.in.GetTrafficUseCase;
+import com.asusrouter.infrastructure.config.RouterProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the CPU, memory and traffic use cases at a fixed rate so their
+ * parsers keep feeding the metric history even when no tool is called.
+ * Reads are answered from the background poller's snapshots.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MetricSampler implements SmartLifecycle {
+    
+    private final GetCpuUtilizationUseCase getCpuUtilizationUseCase;
+    private final GetMemoryUsageUseCase getMemoryUsageUseCase;
+    private final GetTrafficUseCase getTrafficUseCase;
+    private final RouterProperties routerProperties;
+    
+    private volatile boolean running;
+    private Thread thread;
+    
+    @Override
+    public synchronized void start() {
+        RouterProperties.History settings = routerProperties.getHistory();
+        if (!settings.isEnabled() || running) {
+            return;
+        }
+        // Set before the thread starts, so its loop never sees a stale false
+        running = true;
+        thread = Thread.ofVirtual()
+            .name("metric-sampler")
+            .start(() -> sample(settings.getSampleInterval()));
+    }
+    
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    private void sample(long intervalMillis) {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, intervalMillis));
+        long next = System.nanoTime();
+        while (running) {
+            sampleQuietly("cpu", getCpuUtilizationUseCase::execute);
+            sampleQuietly("memory", getMemoryUsageUseCase::execute);
+            sampleQuietly("traffic", getTrafficUseCase::execute);
+            next = Math.max(next + intervalNanos, System.nanoTime());
+            try {
+                TimeUnit.NANOSECONDS.sleep(next - System.nanoTime());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+    
+    private void sampleQuietly(String metric, Runnable sampler) {
+        try {
+            sampler.run();
+        } catch (RuntimeException e) {
+            log.debug("Sampling {} failed: {}", metric, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.asusrouter.domain.exception.RouterAuthenticationException;
+import com.asusrouter.infrastructure.config.RouterProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Performs the ASUS login.cgi flow.
+ * Mirrors RouterInfo.py: POST login_authorization=base64(user:password)
+ * and read the asus_token from the cookie or JSON body. Token caching and
+ * renewal live in {@link RouterSessionManager}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AsusRouterAuthenticator {
+    
+    static final String USER_AGENT = "asusrouter-Android-DUTUtil-1.0.0.245";
+    static final String TOKEN_COOKIE = "asus_token";
+    
+    private static final String LOGIN_PATH = "/login.cgi";
+    
+    private final WebClient webClient;
+    private final RouterProperties routerProperties;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Perform a login against /login.cgi.
+     * @return The new asus_token
+     */
+    public Mono<String> authenticate() {
+        String credentials = routerProperties.getUsername() + ":" + nullToEmpty(routerProperties.getPassword());
+        String authorization = Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+        
+        return webClient.post()
+            .uri(LOGIN_PATH)
+            .header(HttpHeaders.USER_AGENT, USER_AGENT)
+            .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+            .body(BodyInserters.fromFormData("login_authorization", authorization))
+            .exchangeToMono(response -> {
+                if (response.statusCode().isError()) {
+                    return response.releaseBody().then(Mono.error(new RouterAuthenticationException(
+                        "Router login failed with HTTP " + response.statusCode().value())));
+                }
+                ResponseCookie cookie = response.cookies().getFirst(TOKEN_COOKIE);
+                return response.bodyToMono(String.class)
+                    .defaultIfEmpty("")
+                    .map(body -> extractToken(cookie, body));
+            })
+            .doOnNext(token -> log.debug("Authenticated with router as {}", routerProperties.getUsername()));
+    }
+    
+    private String extractToken(ResponseCookie cookie, String body) {
+        if (cookie != null && !cookie.getValue().isEmpty()) {
+            return cookie.getValue();
+        }
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            String value = root.path(TOKEN_COOKIE).asText("");
+            if (!value.isEmpty()) {
+                return value;
+            }
+        } catch (JsonProcessingException e) {
+            log.debug("Login response is not JSON: {}", e.getMessage());
+        }
+        throw new RouterAuthenticationException("Router login response did not contain an asus_token");
+    }
+    
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,154 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import com.asusrouter.domain.exception.RouterAuthenticationException;
+import com.asusrouter.domain.exception.RouterCommunicationException;
+import com.asusrouter.domain.exception.RouterException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Executes appGet.cgi hooks on the router over the shared, pooled WebClient.
+ * Every call reuses a keep-alive connection and the cached asus_token;
+ * a rejected token triggers one shared re-login and a single retry.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RouterCommandExecutor {
+    
+    private static final String APP_GET_PATH = "/appGet.cgi";
+    
+    private final WebClient webClient;
+    private final RouterSessionManager sessionManager;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Execute a hook without parameter and wait for the raw response.
+     */
+    public String executeGetCommand(String hook) {
+        return executeGetCommand(hook, null);
+    }
+    
+    /**
+     * Execute a hook with an optional parameter and wait for the raw response.
+     */
+    public String executeGetCommand(String hook, String parameter) {
+        return execute(hook, parameter).block();
+    }
+    
+    /**
+     * Execute a hook with an optional parameter.
+     * @return Raw response body, or an empty string if the router sent none
+     */
+    public Mono<String> execute(String hook, String parameter) {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("hook", hook);
+        if (parameter != null) {
+            form.add("parameter", parameter);
+        }
+        return withSession(hook, form);
+    }
+    
+    /**
+     * Execute several hooks in one appGet.cgi round trip
+     * ({@code hook=uptime();memory_usage();get_clientlist(2)}).
+     * Hook names must be unique within one batch.
+     * @return Raw response per hook; hooks missing from the router response are absent
+     */
+    public Mono<Map<RouterHook, String>> executeBatch(List<RouterHook> hooks) {
+        String payload = hooks.stream().map(RouterHook::expression).collect(Collectors.joining(";"));
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("hook", payload);
+        return withSession(payload, form).map(body -> splitBatchResponse(hooks, body));
+    }
+    
+    private Mono<String> withSession(String hook, MultiValueMap<String, String> form) {
+        return sessionManager.getToken()
+            .flatMap(token -> send(hook, form, token)
+                .onErrorResume(SessionExpiredException.class, e -> {
+                    log.debug("Session expired during hook {}, re-authenticating", hook);
+                    return sessionManager.renew(token)
+                        .flatMap(newToken -> send(hook, form, newToken));
+                }))
+            .onErrorMap(SessionExpiredException.class,
+                e -> new RouterAuthenticationException("Router rejected session for hook " + hook))
+            .onErrorMap(e -> !(e instanceof RouterException), e -> toCommunicationException(hook, e));
+    }
+    
+    private Map<RouterHook, String> splitBatchResponse(List<RouterHook> hooks, String body) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new RouterCommunicationException("Invalid multi-hook response: " + e.getOriginalMessage(), e);
+        }
+        Map<RouterHook, String> results = new LinkedHashMap<>();
+        for (RouterHook hook : hooks) {
+            JsonNode value = root.get(hook.name());
+            if (value != null) {
+                results.put(hook, value.isValueNode() ? value.asText() : value.toString());
+            }
+        }
+        return results;
+    }
+    
+    private Mono<String> send(String hook, MultiValueMap<String, String> form, String token) {
+        return webClient.post()
+            .uri(APP_GET_PATH)
+            .header(HttpHeaders.USER_AGENT, AsusRouterAuthenticator.USER_AGENT)
+            .cookie(AsusRouterAuthenticator.TOKEN_COOKIE, token)
+            .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+            .body(BodyInserters.fromFormData(form))
+            .exchangeToMono(response -> {
+                if (response.statusCode().value() == HttpStatus.UNAUTHORIZED.value()
+                        || response.statusCode().value() == HttpStatus.FORBIDDEN.value()) {
+                    return response.releaseBody().then(Mono.error(new SessionExpiredException()));
+                }
+                if (response.statusCode().isError()) {
+                    return response.releaseBody().then(Mono.error(new RouterCommunicationException(
+                        "Router returned HTTP " + response.statusCode().value() + " for hook " + hook)));
+                }
+                return response.bodyToMono(String.class).defaultIfEmpty("");
+            });
+    }
+    
+    private RouterCommunicationException toCommunicationException(String hook, Throwable e) {
+        if (e instanceof TimeoutException || e.getCause() instanceof TimeoutException) {
+            return new RouterCommunicationException("Timeout executing hook " + hook, e);
+        }
+        if (e instanceof WebClientRequestException) {
+            return new RouterCommunicationException("Cannot reach router for hook " + hook + ": " + e.getMessage(), e);
+        }
+        return new RouterCommunicationException("Failed to execute hook " + hook + ": " + e.getMessage(), e);
+    }
+    
+    /**
+     * Signals a 401/403 from appGet.cgi so the caller can re-authenticate.
+     */
+    private static final class SessionExpiredException extends RuntimeException {
+        SessionExpiredException() {
+            super(null, null, false, false);
+        }
+    }
+}
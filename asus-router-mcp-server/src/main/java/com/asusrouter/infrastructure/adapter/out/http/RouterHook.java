@@ -0,0 +1,28 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+/**
+ * A single appGet.cgi hook invocation, e.g. {@code get_clientlist(2)}.
+ */
+public record RouterHook(String name, String parameter) {
+    
+    public RouterHook {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Hook name cannot be null or empty");
+        }
+    }
+    
+    /**
+     * Hook expression as used in a multi-hook payload.
+     */
+    public String expression() {
+        return name + "(" + (parameter == null ? "" : parameter) + ")";
+    }
+    
+    /**
+     * Whether the parameter can be embedded in a multi-hook payload
+     * without breaking the {@code name(arg);name(arg)} syntax.
+     */
+    public boolean isBatchable() {
+        return parameter == null || parameter.chars().noneMatch(c -> c == '(' || c == ')' || c == ';');
+    }
+}
@@ -0,0 +1,137 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.domain.exception.RouterCommunicationException;
+import com.asusrouter.infrastructure.config.RouterProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Collects hook requests arriving within a short window and sends them
+ * as one multi-hook appGet.cgi call, then hands each caller its own part
+ * of the combined response. Composite reports that fetch several hooks
+ * concurrently therefore cost one router round trip instead of one per hook.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RouterHookBatcher {
+    
+    private final RouterCommandExecutor commandExecutor;
+    private final RouterProperties routerProperties;
+    
+    private final Object lock = new Object();
+    private PendingBatch pending;
+    
+    /**
+     * Fetch a hook without parameter and wait for its raw response.
+     */
+    public String fetch(String hook) {
+        return fetch(hook, null);
+    }
+    
+    /**
+     * Fetch a hook with an optional parameter and wait for its raw response.
+     */
+    public String fetch(String hook, String parameter) {
+        return submit(hook, parameter).block();
+    }
+    
+    /**
+     * Queue a hook for the next batch.
+     * @return Raw response for this hook once the batch completes
+     */
+    public Mono<String> submit(String hook, String parameter) {
+        RouterHook call = new RouterHook(hook, parameter);
+        if (routerProperties.getBatchWindow() <= 0 || !call.isBatchable()) {
+            return commandExecutor.execute(hook, parameter);
+        }
+        return Mono.defer(() -> Mono.fromFuture(enqueue(call), true));
+    }
+    
+    private CompletableFuture<String> enqueue(RouterHook call) {
+        PendingBatch full = null;
+        CompletableFuture<String> result;
+        synchronized (lock) {
+            if (pending != null && !pending.accepts(call, routerProperties.getMaxBatchSize())) {
+                full = pending;
+                pending = null;
+            }
+            if (pending == null) {
+                PendingBatch batch = new PendingBatch();
+                pending = batch;
+                Schedulers.parallel().schedule(() -> flushIfPending(batch),
+                    routerProperties.getBatchWindow(), TimeUnit.MILLISECONDS);
+            }
+            result = pending.add(call);
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return result;
+    }
+    
+    private void flushIfPending(PendingBatch batch) {
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+        }
+        dispatch(batch);
+    }
+    
+    private void dispatch(PendingBatch batch) {
+        Map<RouterHook, CompletableFuture<String>> calls = batch.calls;
+        if (calls.size() == 1) {
+            Map.Entry<RouterHook, CompletableFuture<String>> only = calls.entrySet().iterator().next();
+            RouterHook hook = only.getKey();
+            Mono.defer(() -> commandExecutor.execute(hook.name(), hook.parameter()))
+                .subscribe(only.getValue()::complete, only.getValue()::completeExceptionally);
+            return;
+        }
+        
+        log.debug("Sending {} hooks in one request", calls.size());
+        Mono.defer(() -> commandExecutor.executeBatch(new ArrayList<>(calls.keySet()))).subscribe(
+            results -> calls.forEach((hook, future) -> {
+                String value = results.get(hook);
+                if (value != null) {
+                    future.complete(value);
+                } else {
+                    future.completeExceptionally(new RouterCommunicationException(
+                        "Router response is missing hook " + hook.name()));
+                }
+            }),
+            error -> calls.values().forEach(future -> future.completeExceptionally(error)));
+    }
+    
+    /**
+     * Hooks collected for one request. Identical calls share one result;
+     * a hook name may only appear once because the router keys its answer by name.
+     */
+    private static final class PendingBatch {
+        private final Map<RouterHook, CompletableFuture<String>> calls = new LinkedHashMap<>();
+        private final Set<String> names = new HashSet<>();
+        
+        boolean accepts(RouterHook call, int maxBatchSize) {
+            return calls.containsKey(call) || (calls.size() < maxBatchSize && !names.contains(call.name()));
+        }
+        
+        CompletableFuture<String> add(RouterHook call) {
+            names.add(call.name());
+            return calls.computeIfAbsent(call, k -> new CompletableFuture<>());
+        }
+    }
+}
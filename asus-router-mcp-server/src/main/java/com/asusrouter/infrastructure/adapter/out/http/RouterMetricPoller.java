@@ -0,0 +1,114 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.infrastructure.config.RouterProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Samples router hooks in the background on per-hook intervals configured
+ * under asus.router.poller.intervals and publishes each response to
+ * {@link RouterMetricSnapshots}. Every hook runs on its own virtual thread;
+ * hooks due at the same time are sent in one batched appGet.cgi call.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RouterMetricPoller implements SmartLifecycle {
+    
+    private final RouterRequestCoalescer requestCoalescer;
+    private final RouterMetricSnapshots metricSnapshots;
+    private final RouterProperties routerProperties;
+    
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+    
+    @Override
+    public synchronized void start() {
+        RouterProperties.Poller settings = routerProperties.getPoller();
+        if (!settings.isEnabled() || !threads.isEmpty()) {
+            return;
+        }
+        running = true;
+        for (Map.Entry<String, Long> entry : settings.getIntervals().entrySet()) {
+            RouterHook hook = parseHook(entry.getKey());
+            long interval = entry.getValue();
+            if (interval <= 0) {
+                continue;
+            }
+            metricSnapshots.register(hook, interval * Math.max(1, settings.getMaxAgeIntervals()));
+            threads.add(Thread.ofVirtual()
+                .name("router-poller-" + hook.name())
+                .start(() -> poll(hook, interval)));
+        }
+        log.info("Polling {} router hooks in the background", threads.size());
+    }
+    
+    @Override
+    public synchronized void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        threads.clear();
+    }
+    
+    @Override
+    public synchronized boolean isRunning() {
+        return !threads.isEmpty();
+    }
+    
+    /**
+     * Fetch a hook at a fixed rate until interrupted. A slow response delays
+     * the next sample instead of queueing extra ones.
+     */
+    private void poll(RouterHook hook, long intervalMillis) {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        long next = System.nanoTime();
+        boolean failing = false;
+        while (running) {
+            try {
+                metricSnapshots.publish(hook, requestCoalescer.fetch(hook.name(), hook.parameter()));
+                if (failing) {
+                    log.info("Polling {} recovered", hook.expression());
+                    failing = false;
+                }
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                if (!failing) {
+                    log.warn("Polling {} failed: {}", hook.expression(), e.getMessage());
+                    failing = true;
+                }
+            }
+            next = Math.max(next + intervalNanos, System.nanoTime());
+            try {
+                TimeUnit.NANOSECONDS.sleep(next - System.nanoTime());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Parse a hook expression such as "uptime" or "get_clientlist(2)".
+     */
+    static RouterHook parseHook(String expression) {
+        int open = expression.indexOf('(');
+        if (open < 0) {
+            return new RouterHook(expression.trim(), null);
+        }
+        if (!expression.endsWith(")")) {
+            throw new IllegalArgumentException("Invalid hook expression: " + expression);
+        }
+        String parameter = expression.substring(open + 1, expression.length() - 1);
+        return new RouterHook(expression.substring(0, open).trim(), parameter.isEmpty() ? null : parameter);
+    }
+}
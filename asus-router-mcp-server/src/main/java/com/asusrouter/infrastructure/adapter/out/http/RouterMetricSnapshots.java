@@ -0,0 +1,54 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.domain.model.Timestamped;
+
+/**
+ * Latest hook responses published by the {@link RouterMetricPoller}.
+ * Each publish replaces the hook's immutable snapshot, so readers never
+ * lock and never see a partly updated value.
+ */
+@Component
+public class RouterMetricSnapshots {
+    
+    private final Map<RouterHook, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<RouterHook, Long> maxAgeMillis = new ConcurrentHashMap<>();
+    
+    /**
+     * Declare a polled hook and how long its snapshot may be served.
+     */
+    public void register(RouterHook hook, long maxAge) {
+        maxAgeMillis.put(hook, maxAge);
+    }
+    
+    /**
+     * Replace the snapshot of a hook with a new response.
+     */
+    public void publish(RouterHook hook, String value) {
+        snapshots.put(hook, new Snapshot(value, System.nanoTime()));
+    }
+    
+    /**
+     * Latest snapshot of a hook if it is still within its maximum age.
+     * @return Snapshot with its age, or null if the hook is not polled or the snapshot is too old
+     */
+    public Timestamped<String> latest(RouterHook hook) {
+        Snapshot snapshot = snapshots.get(hook);
+        if (snapshot == null) {
+            return null;
+        }
+        long age = snapshot.ageMillis();
+        return age < maxAgeMillis.getOrDefault(hook, 0L) ? new Timestamped<>(snapshot.value(), age, false) : null;
+    }
+    
+    private record Snapshot(String value, long sampledAtNanos) {
+        long ageMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sampledAtNanos);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lets concurrent identical reads share one in-flight router request.
+ * Requests are keyed by hook name and parameter; a caller asking for a hook
+ * that is already being fetched joins that request instead of sending its own.
+ * The entry is dropped as soon as the request completes, so nothing is cached.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RouterRequestCoalescer {
+    
+    private final RouterHookBatcher hookBatcher;
+    
+    private final ConcurrentMap<RouterHook, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    
+    /**
+     * Fetch a hook without parameter and wait for its raw response.
+     */
+    public String fetch(String hook) {
+        return fetch(hook, null);
+    }
+    
+    /**
+     * Fetch a hook with an optional parameter and wait for its raw response.
+     */
+    public String fetch(String hook, String parameter) {
+        return submit(hook, parameter).block();
+    }
+    
+    /**
+     * Fetch a hook, joining an identical request that is already in flight.
+     */
+    public Mono<String> submit(String hook, String parameter) {
+        RouterHook key = new RouterHook(hook, parameter);
+        return Mono.defer(() -> Mono.fromFuture(join(key), true));
+    }
+    
+    private CompletableFuture<String> join(RouterHook key) {
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            log.debug("Joining in-flight request for {}", key.expression());
+            return existing;
+        }
+        
+        created.whenComplete((value, error) -> inFlight.remove(key, created));
+        Mono.defer(() -> hookBatcher.submit(key.name(), key.parameter()))
+            .subscribe(created::complete, created::completeExceptionally);
+        return created;
+    }
+}
@@ -0,0 +1,237 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.domain.model.Timestamped;
+import com.asusrouter.infrastructure.config.RouterProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches raw hook responses in front of the router adapters.
+ * Freshness is configured per hook under asus.router.cache.ttl; hooks without
+ * a TTL always go to the router. The cache is bounded to max-entries and
+ * evicts the least recently used response. Failed requests are never cached.
+ * Hooks sampled by the {@link RouterMetricPoller} are answered from the latest
+ * polled snapshot while it is recent enough.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RouterResponseCache {
+    
+    private final RouterRequestCoalescer requestCoalescer;
+    private final RouterProperties routerProperties;
+    private final RouterMetricSnapshots metricSnapshots;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    
+    private final Map<RouterHook, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<RouterHook, Entry> eldest) {
+            if (size() > routerProperties.getCache().getMaxEntries()) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+    
+    /**
+     * Fetch a hook without parameter and wait for its raw response.
+     */
+    public String fetch(String hook) {
+        return fetch(hook, null);
+    }
+    
+    /**
+     * Fetch a hook with an optional parameter and wait for its raw response.
+     */
+    public String fetch(String hook, String parameter) {
+        return submit(hook, parameter).block();
+    }
+    
+    /**
+     * Serve a hook from the cache if still fresh, otherwise fetch and store it.
+     */
+    public Mono<String> submit(String hook, String parameter) {
+        return submitWithAge(hook, parameter).map(Timestamped::value);
+    }
+    
+    /**
+     * Fetch a hook like {@link #fetch(String, String)} and tell how old the answer is.
+     */
+    public Timestamped<String> fetchWithAge(String hook, String parameter) {
+        return submitWithAge(hook, parameter).block();
+    }
+    
+    /**
+     * Serve a hook like {@link #submit(String, String)}, keeping the age of the answer:
+     * the polled snapshot's or cached entry's age, or zero for a fresh router response.
+     * Counter-based metrics use it to time their samples by when the router was read.
+     */
+    public Mono<Timestamped<String>> submitWithAge(String hook, String parameter) {
+        RouterHook key = new RouterHook(hook, parameter);
+        long ttl = ttlMillis(hook);
+        return Mono.defer(() -> {
+            Timestamped<String> polled = metricSnapshots.latest(key);
+            if (polled != null) {
+                hits.increment();
+                return Mono.just(polled);
+            }
+            if (ttl <= 0) {
+                return requestCoalescer.submit(hook, parameter).map(Timestamped::fresh);
+            }
+            Timestamped<String> cached = lookup(key, ttl);
+            if (cached != null) {
+                hits.increment();
+                return Mono.just(cached);
+            }
+            misses.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Cache miss for {} (hit rate {})", key.expression(), String.format("%.2f", stats().hitRate()));
+            }
+            return requestCoalescer.submit(hook, parameter)
+                .doOnNext(value -> store(key, value))
+                .map(Timestamped::fresh);
+        });
+    }
+    
+    /**
+     * Fetch a hook with stale-while-revalidate semantics and wait for the result.
+     */
+    public Timestamped<String> fetchStaleWhileRevalidate(String hook, String parameter) {
+        return submitStaleWhileRevalidate(hook, parameter).block();
+    }
+    
+    /**
+     * Answer from the last stored response if there is one. Within the hook's TTL
+     * it is returned as fresh; past the TTL but within max-stale it is returned
+     * marked stale and a background refresh is started. Without a usable
+     * response the caller waits for the router.
+     */
+    public Mono<Timestamped<String>> submitStaleWhileRevalidate(String hook, String parameter) {
+        RouterHook key = new RouterHook(hook, parameter);
+        long ttl = ttlMillis(hook);
+        long maxStale = maxStaleMillis(ttl);
+        return Mono.defer(() -> {
+            Timestamped<String> polled = metricSnapshots.latest(key);
+            if (polled != null) {
+                hits.increment();
+                return Mono.just(polled);
+            }
+            Entry entry;
+            synchronized (entries) {
+                entry = entries.get(key);
+            }
+            if (entry != null) {
+                long age = entry.ageMillis();
+                if (age < ttl) {
+                    hits.increment();
+                    return Mono.just(new Timestamped<>(entry.value(), age, false));
+                }
+                if (age < maxStale) {
+                    hits.increment();
+                    refreshInBackground(key);
+                    return Mono.just(new Timestamped<>(entry.value(), age, true));
+                }
+            }
+            misses.increment();
+            return requestCoalescer.submit(hook, parameter)
+                .doOnNext(value -> store(key, value))
+                .map(Timestamped::fresh);
+        });
+    }
+    
+    /**
+     * Drop all cached responses.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+    
+    /**
+     * Current hit/miss counters and size.
+     */
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+    
+    private void refreshInBackground(RouterHook key) {
+        requestCoalescer.submit(key.name(), key.parameter()).subscribe(
+            value -> store(key, value),
+            e -> log.warn("Background refresh of {} failed: {}", key.expression(), e.getMessage()));
+    }
+    
+    /**
+     * Fresh entry within the TTL. An expired entry stays until max-stale so
+     * stale-while-revalidate reads can still serve it.
+     */
+    private Timestamped<String> lookup(RouterHook key, long ttl) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            long age = entry.ageMillis();
+            if (age >= ttl) {
+                if (age >= maxStaleMillis(ttl)) {
+                    entries.remove(key);
+                }
+                return null;
+            }
+            return new Timestamped<>(entry.value(), age, false);
+        }
+    }
+    
+    private void store(RouterHook key, String value) {
+        synchronized (entries) {
+            entries.put(key, new Entry(value, System.nanoTime()));
+        }
+    }
+    
+    private long maxStaleMillis(long ttl) {
+        RouterProperties.Cache settings = routerProperties.getCache();
+        return settings.isStaleWhileRevalidate() ? Math.max(ttl, settings.getMaxStale()) : ttl;
+    }
+    
+    private long ttlMillis(String hook) {
+        Long ttl = routerProperties.getCache().getTtl().get(hook);
+        return ttl == null ? 0 : ttl;
+    }
+    
+    /**
+     * Cache counters.
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+        
+        /**
+         * Fraction of lookups served from the cache (0.0 to 1.0).
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+    
+    private record Entry(String value, long storedAtNanos) {
+        long ageMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - storedAtNanos);
+        }
+    }
+}
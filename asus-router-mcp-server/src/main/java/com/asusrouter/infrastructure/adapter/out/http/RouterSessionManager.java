@@ -0,0 +1,112 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.infrastructure.config.RouterProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches the asus_token and keeps it fresh.
+ * Logins are single-flight: however many callers find the token missing,
+ * expired or rejected at the same time, only one login.cgi request is sent
+ * and everyone waits for its result. ASUS firmware locks the account after
+ * repeated logins, so this matters under concurrent load.
+ * Tokens close to expiry are renewed in the background while still in use.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RouterSessionManager {
+    
+    private final AsusRouterAuthenticator authenticator;
+    private final RouterProperties routerProperties;
+    
+    private final AtomicReference<Session> session = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Session>> inFlightLogin = new AtomicReference<>();
+    
+    /**
+     * Get a valid session token, logging in if there is none or it has expired.
+     */
+    public Mono<String> getToken() {
+        return Mono.defer(() -> {
+            Session current = session.get();
+            if (current == null || isExpired(current)) {
+                return login(current).map(Session::token);
+            }
+            if (needsRenewal(current)) {
+                login(current).subscribe(
+                    renewed -> log.debug("Renewed router session ahead of expiry"),
+                    e -> log.warn("Background session renewal failed: {}", e.getMessage()));
+            }
+            return Mono.just(current.token());
+        });
+    }
+    
+    /**
+     * Replace a token the router rejected.
+     * If another caller already replaced it, the newer token is returned without a new login.
+     */
+    public Mono<String> renew(String rejectedToken) {
+        return Mono.defer(() -> {
+            Session current = session.get();
+            if (current != null && !current.token().equals(rejectedToken) && !isExpired(current)) {
+                return Mono.just(current.token());
+            }
+            return login(current).map(Session::token);
+        });
+    }
+    
+    private Mono<Session> login(Session stale) {
+        CompletableFuture<Session> attempt = new CompletableFuture<>();
+        CompletableFuture<Session> running = inFlightLogin.compareAndExchange(null, attempt);
+        if (running != null) {
+            return Mono.fromFuture(running, true);
+        }
+        
+        // A login may have finished between reading the stale session and winning the race
+        Session latest = session.get();
+        if (latest != stale && latest != null && !isExpired(latest)) {
+            inFlightLogin.set(null);
+            attempt.complete(latest);
+            return Mono.just(latest);
+        }
+        
+        authenticator.authenticate()
+            .map(token -> new Session(token, System.nanoTime()))
+            .subscribe(
+                fresh -> {
+                    session.set(fresh);
+                    inFlightLogin.set(null);
+                    attempt.complete(fresh);
+                },
+                e -> {
+                    inFlightLogin.set(null);
+                    attempt.completeExceptionally(e);
+                });
+        return Mono.fromFuture(attempt, true);
+    }
+    
+    private boolean isExpired(Session s) {
+        return s.ageMillis() >= routerProperties.getSessionLifetime();
+    }
+    
+    private boolean needsRenewal(Session s) {
+        return s.ageMillis() >= routerProperties.getSessionLifetime() - routerProperties.getSessionRenewMargin();
+    }
+    
+    /**
+     * Token with its login time (monotonic).
+     */
+    private record Session(String token, long issuedAtNanos) {
+        long ageMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - issuedAtNanos);
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.asusrouter.infrastructure.adapter.out.journal;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.application.port.out.MetricJournalPort;
+import com.asusrouter.infrastructure.config.JournalProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only metrics journal in memory-mapped segment files.
+ *
+ * <p>Segment layout: a 16-byte header (magic, version, creation time) followed
+ * by records, each ending in a CRC32C of its bytes:
+ * <pre>
+ * DEFINE  type=1 | id:short | length:short | name:UTF-8 | crc:int
+ * SAMPLE  type=2 | id:short | time:long | value:double | crc:int
+ * </pre>
+ * Metric names are defined once per segment, so a sample costs 23 bytes.
+ * Files are pre-sized and zero-filled; type 0 marks the end of the data.
+ *
+ * <p>Appends are plain writes into the mapping and reach the page cache at
+ * once, so they survive a process crash without fsync. Segments are forced
+ * to disk when they are closed. On startup a torn or corrupt tail in the
+ * last segment is cut off at the last valid record and appending continues
+ * from there. Full segments are rotated and deleted after the retention time.
+ *
+ * <p>The directory is locked while a process journals into it. MCP clients
+ * start one server per session, so a process that finds the lock held
+ * runs without a journal instead of writing into the same segment.
+ */
+@Component
+@Slf4j
+public class MappedMetricJournalAdapter implements MetricJournalPort, AutoCloseable {
+    
+    static final int MAGIC = 0x414D4A31; // "AMJ1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    
+    private static final byte END = 0;
+    private static final byte DEFINE = 1;
+    private static final byte SAMPLE = 2;
+    private static final int SAMPLE_SIZE = 1 + 2 + 8 + 8 + 4;
+    private static final int MAX_NAME_BYTES = 255;
+    private static final int MAX_DEFINE_SIZE = 1 + 2 + 2 + MAX_NAME_BYTES + 4;
+    private static final String SUFFIX = ".journal";
+    private static final String LOCK_FILE = "journal.lock";
+    
+    private final JournalProperties properties;
+    private final Path directory;
+    private final CRC32C crc = new CRC32C();
+    private final Map<String, byte[]> encodedNames = new HashMap<>();
+    
+    private final Map<String, Short> segmentIds = new HashMap<>();
+    private FileChannel lockChannel;
+    private MappedByteBuffer segment;
+    private long segmentNumber;
+    private boolean enabled;
+    
+    public MappedMetricJournalAdapter(JournalProperties properties) {
+        this.properties = properties;
+        this.directory = Path.of(properties.getDirectory());
+        this.enabled = properties.isEnabled();
+        if (enabled) {
+            try {
+                open();
+            } catch (IOException | RuntimeException e) {
+                log.warn("Metrics journal disabled, cannot open {}: {}", directory, e.getMessage());
+                segment = null;
+                close();
+            }
+        }
+    }
+    
+    @Override
+    public synchronized void append(String metric, long timeMillis, double value) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            byte[] name = encodedNames.computeIfAbsent(metric, MappedMetricJournalAdapter::encode);
+            if (segment.remaining() < MAX_DEFINE_SIZE + SAMPLE_SIZE + 1) {
+                rotate();
+            }
+            Short id = segmentIds.get(metric);
+            if (id == null) {
+                id = (short) segmentIds.size();
+                segmentIds.put(metric, id);
+                int start = segment.position();
+                segment.put(DEFINE).putShort(id).putShort((short) name.length).put(name);
+                segment.putInt(checksum(segment, start, segment.position()));
+            }
+            int start = segment.position();
+            segment.put(SAMPLE).putShort(id).putLong(timeMillis).putDouble(value);
+            segment.putInt(checksum(segment, start, segment.position()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Metrics journal disabled after write failure: {}", e.getMessage());
+            enabled = false;
+        }
+    }
+    
+    @Override
+    public synchronized void replay(SampleConsumer consumer) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (Path file : segments()) {
+                if (segmentNumber(file) == segmentNumber) {
+                    readRecords(segment.duplicate().position(HEADER_SIZE), consumer);
+                } else {
+                    replayClosed(file, consumer);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Metrics journal replay stopped: {}", e.getMessage());
+        }
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (segment != null && enabled) {
+            segment.force();
+        }
+        enabled = false;
+        if (lockChannel != null) {
+            try {
+                lockChannel.close();
+            } catch (IOException e) {
+                log.debug("Failed to release metrics journal lock: {}", e.getMessage());
+            }
+            lockChannel = null;
+        }
+    }
+    
+    /**
+     * Lock the directory, delete expired segments and reopen the newest one, recovering its tail.
+     */
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        if (!lock()) {
+            log.info("Metrics journal {} is in use by another process, running without a journal", directory);
+            enabled = false;
+            return;
+        }
+        deleteExpired();
+        List<Path> files = segments();
+        if (files.isEmpty()) {
+            startSegment(1);
+            return;
+        }
+        Path last = files.get(files.size() - 1);
+        segmentNumber = segmentNumber(last);
+        segment = map(last, Files.size(last));
+        if (!hasValidHeader(segment)) {
+            log.warn("Metrics journal segment {} has no valid header, starting a new one", last.getFileName());
+            startSegment(segmentNumber + 1);
+            return;
+        }
+        segment.position(HEADER_SIZE);
+        int tail = readRecords(segment.duplicate().position(HEADER_SIZE), (metric, time, value) -> { });
+        for (int i = tail; i < segment.limit(); i++) {
+            if (segment.get(i) != 0) {
+                log.warn("Recovered metrics journal {}: cut off {} bytes after the last valid record",
+                    last.getFileName(), segment.limit() - tail);
+                for (int j = tail; j < segment.limit(); j++) {
+                    segment.put(j, (byte) 0);
+                }
+                break;
+            }
+        }
+        segmentIds.putAll(readDefinitions(segment.duplicate().position(HEADER_SIZE), tail));
+        segment.position(tail);
+    }
+    
+    /**
+     * Take the exclusive directory lock; it is released when the channel is closed.
+     * @return false if another process (or adapter) holds it
+     */
+    private boolean lock() throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            channel.close();
+            return false;
+        }
+        lockChannel = channel;
+        return true;
+    }
+    
+    private void rotate() throws IOException {
+        segment.force();
+        startSegment(segmentNumber + 1);
+        deleteExpired();
+    }
+    
+    private void startSegment(long number) throws IOException {
+        segmentNumber = number;
+        segmentIds.clear();
+        segment = map(directory.resolve(fileName(number)), properties.getSegmentSize());
+        segment.putInt(MAGIC).putInt(VERSION).putLong(System.currentTimeMillis());
+    }
+    
+    private void replayClosed(Path file, SampleConsumer consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (hasValidHeader(buffer)) {
+                readRecords(buffer.position(HEADER_SIZE), consumer);
+            }
+        }
+    }
+    
+    /**
+     * Read records from the buffer position until the end marker or the first invalid record.
+     * @return Position after the last valid record
+     */
+    private int readRecords(ByteBuffer buffer, SampleConsumer consumer) {
+        Map<Short, String> names = new HashMap<>();
+        while (true) {
+            int start = buffer.position();
+            if (buffer.remaining() < 1) {
+                return start;
+            }
+            byte type = buffer.get(start);
+            if (type == DEFINE && buffer.remaining() >= 5) {
+                short id = buffer.getShort(start + 1);
+                int length = buffer.getShort(start + 3);
+                int end = start + 5 + length;
+                if (length < 0 || length > MAX_NAME_BYTES || end + 4 > buffer.limit()
+                        || checksum(buffer, start, end) != buffer.getInt(end)) {
+                    return start;
+                }
+                byte[] name = new byte[length];
+                buffer.get(start + 5, name);
+                names.put(id, new String(name, StandardCharsets.UTF_8));
+                buffer.position(end + 4);
+            } else if (type == SAMPLE && buffer.remaining() >= SAMPLE_SIZE) {
+                int end = start + SAMPLE_SIZE - 4;
+                String metric = names.get(buffer.getShort(start + 1));
+                if (metric == null || checksum(buffer, start, end) != buffer.getInt(end)) {
+                    return start;
+                }
+                consumer.accept(metric, buffer.getLong(start + 3), buffer.getDouble(start + 11));
+                buffer.position(end + 4);
+            } else {
+                return start;
+            }
+        }
+    }
+    
+    private Map<String, Short> readDefinitions(ByteBuffer buffer, int tail) {
+        Map<String, Short> ids = new HashMap<>();
+        while (buffer.position() < tail) {
+            int start = buffer.position();
+            if (buffer.get(start) == DEFINE) {
+                int length = buffer.getShort(start + 3);
+                byte[] name = new byte[length];
+                buffer.get(start + 5, name);
+                ids.put(new String(name, StandardCharsets.UTF_8), buffer.getShort(start + 1));
+                buffer.position(start + 5 + length + 4);
+            } else {
+                buffer.position(start + SAMPLE_SIZE);
+            }
+        }
+        return ids;
+    }
+    
+    /**
+     * CRC32C of buffer bytes [from, to), computed in place without copying.
+     */
+    private int checksum(ByteBuffer buffer, int from, int to) {
+        ByteBuffer view = buffer.duplicate().limit(to).position(from);
+        crc.reset();
+        crc.update(view);
+        return (int) crc.getValue();
+    }
+    
+    /**
+     * Delete segments past the retention time. Best effort: a segment that cannot be
+     * deleted yet (e.g. still mapped on Windows) is retried on the next rotation.
+     */
+    private void deleteExpired() {
+        long cutoff = System.currentTimeMillis() - properties.getRetention();
+        List<Path> files;
+        try {
+            files = segments();
+        } catch (IOException e) {
+            log.warn("Failed to list metrics journal segments: {}", e.getMessage());
+            return;
+        }
+        // Never delete the newest segment, it is the one being appended to
+        for (int i = 0; i < files.size() - 1; i++) {
+            Path file = files.get(i);
+            try {
+                if (Files.getLastModifiedTime(file).toMillis() < cutoff) {
+                    Files.deleteIfExists(file);
+                    log.debug("Deleted expired metrics journal segment {}", file.getFileName());
+                }
+            } catch (IOException e) {
+                log.warn("Failed to delete metrics journal segment {}: {}", file.getFileName(), e.getMessage());
+            }
+        }
+    }
+    
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                .sorted()
+                .toList();
+        }
+    }
+    
+    private static MappedByteBuffer map(Path file, long size) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            if (raf.length() < size) {
+                raf.setLength(size);
+            }
+            return raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+    
+    private static boolean hasValidHeader(ByteBuffer buffer) {
+        return buffer.limit() >= HEADER_SIZE && buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION;
+    }
+    
+    private static String fileName(long number) {
+        return String.format("metrics-%012d%s", number, SUFFIX);
+    }
+    
+    private static long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring("metrics-".length(), name.length() - SUFFIX.length()));
+    }
+    
+    private static byte[] encode(String metric) {
+        byte[] name = metric.getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Metric name too long: " + metric);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,47 @@
+package com.asusrouter.infrastructure.adapter.out.router;
+
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.application.port.out.RouterClientListPort;
+import com.asusrouter.domain.model.Timestamped;
+import com.asusrouter.infrastructure.adapter.out.http.RouterResponseCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads connected clients through the get_clientlist and onlinelist hooks.
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpRouterClientListAdapter implements RouterClientListPort {
+    
+    private static final String CLIENT_LIST_HOOK = "get_clientlist";
+    private static final String ONLINE_LIST_HOOK = "onlinelist";
+    
+    private final RouterResponseCache responseCache;
+    
+    @Override
+    public String getClientList(int format) {
+        return responseCache.fetch(CLIENT_LIST_HOOK, String.valueOf(format));
+    }
+    
+    @Override
+    public String getOnlineClients() {
+        return responseCache.fetch(ONLINE_LIST_HOOK);
+    }
+    
+    @Override
+    public Timestamped<String> getOnlineClientsWithAge() {
+        return responseCache.fetchWithAge(ONLINE_LIST_HOOK, null);
+    }
+    
+    @Override
+    public Timestamped<String> getClientListSnapshot(int format) {
+        return responseCache.fetchStaleWhileRevalidate(CLIENT_LIST_HOOK, String.valueOf(format));
+    }
+    
+    @Override
+    public Timestamped<String> getOnlineClientsSnapshot() {
+        return responseCache.fetchStaleWhileRevalidate(ONLINE_LIST_HOOK, null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.asusrouter.infrastructure.adapter.out.router;
+
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.application.port.out.RouterCpuPort;
+import com.asusrouter.domain.model.Timestamped;
+import com.asusrouter.infrastructure.adapter.out.http.RouterResponseCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads CPU usage through the cpu_usage hook.
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpRouterCpuAdapter implements RouterCpuPort {
+    
+    private static final String CPU_HOOK = "cpu_usage";
+    
+    private final RouterResponseCache responseCache;
+    
+    @Override
+    public String getCpuUsage() {
+        return responseCache.fetch(CPU_HOOK);
+    }
+    
+    @Override
+    public Timestamped<String> getCpuUsageSnapshot() {
+        return responseCache.fetchWithAge(CPU_HOOK, null);
+    }
+}
@@ -0,0 +1,25 @@
+package com.asusrouter.infrastructure.adapter.out.router;
+
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.application.port.out.RouterDhcpPort;
+import com.asusrouter.infrastructure.adapter.out.http.RouterResponseCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads DHCP leases through the dhcp_leases hook.
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpRouterDhcpAdapter implements RouterDhcpPort {
+    
+    private static final String DHCP_LEASES_HOOK = "dhcp_leases";
+    
+    private final RouterResponseCache responseCache;
+    
+    @Override
+    public String getDhcpLeases() {
+        return responseCache.fetch(DHCP_LEASES_HOOK);
+    }
+}
@@ -0,0 +1,31 @@
+package com.asusrouter.infrastructure.adapter.out.router;
+
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.application.port.out.RouterMemoryPort;
+import com.asusrouter.domain.model.Timestamped;
+import com.asusrouter.infrastructure.adapter.out.http.RouterResponseCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads memory usage through the memory_usage hook.
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpRouterMemoryAdapter implements RouterMemoryPort {
+    
+    private static final String MEMORY_HOOK = "memory_usage";
+    
+    private final RouterResponseCache responseCache;
+    
+    @Override
+    public String getMemoryUsage() {
+        return responseCache.fetch(MEMORY_HOOK);
+    }
+    
+    @Override
+    public Timestamped<String> getMemoryUsageSnapshot() {
+        return responseCache.fetchWithAge(MEMORY_HOOK, null);
+    }
+}
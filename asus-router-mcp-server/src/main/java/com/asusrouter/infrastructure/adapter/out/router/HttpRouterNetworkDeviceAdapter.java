@@ -0,0 +1,25 @@
+package com.asusrouter.infrastructure.adapter.out.router;
+
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.application.port.out.RouterNetworkDevicePort;
+import com.asusrouter.infrastructure.adapter.out.http.RouterResponseCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads the per-interface device list through the get_network_device_list hook.
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpRouterNetworkDeviceAdapter implements RouterNetworkDevicePort {
+    
+    private static final String NETWORK_DEVICE_LIST_HOOK = "get_network_device_list";
+    
+    private final RouterResponseCache responseCache;
+    
+    @Override
+    public String getNetworkDeviceList(String deviceName) {
+        return responseCache.fetch(NETWORK_DEVICE_LIST_HOOK, deviceName);
+    }
+}
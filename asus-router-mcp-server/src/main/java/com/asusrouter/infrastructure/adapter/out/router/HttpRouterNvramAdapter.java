@@ -0,0 +1,31 @@
+package com.asusrouter.infrastructure.adapter.out.router;
+
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.application.port.out.RouterNvramPort;
+import com.asusrouter.infrastructure.adapter.out.http.RouterResponseCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads router settings through the nvram_dump and nvram_get hooks.
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpRouterNvramAdapter implements RouterNvramPort {
+    
+    private static final String NVRAM_DUMP_HOOK = "nvram_dump";
+    private static final String NVRAM_GET_HOOK = "nvram_get";
+    
+    private final RouterResponseCache responseCache;
+    
+    @Override
+    public String getSettings() {
+        return responseCache.fetch(NVRAM_DUMP_HOOK);
+    }
+    
+    @Override
+    public String executeNvramCommand(String command) {
+        return responseCache.fetch(NVRAM_GET_HOOK, command);
+    }
+}
@@ -0,0 +1,25 @@
+package com.asusrouter.infrastructure.adapter.out.router;
+
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.application.port.out.RouterUptimePort;
+import com.asusrouter.infrastructure.adapter.out.http.RouterResponseCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads router uptime through the uptime hook.
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpRouterUptimeAdapter implements RouterUptimePort {
+    
+    private static final String UPTIME_HOOK = "uptime";
+    
+    private final RouterResponseCache responseCache;
+    
+    @Override
+    public String getUptime() {
+        return responseCache.fetch(UPTIME_HOOK);
+    }
+}
@@ -0,0 +1,43 @@
+package com.asusrouter.infrastructure.adapter.out.router;
+
+import org.springframework.stereotype.Component;
+
+import com.asusrouter.application.port.out.RouterWanLinkPort;
+import com.asusrouter.domain.model.Timestamped;
+import com.asusrouter.infrastructure.adapter.out.http.RouterResponseCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads WAN link, WAN status and traffic counters through the netdev, wan_status and get_wan_link hooks.
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpRouterWanLinkAdapter implements RouterWanLinkPort {
+    
+    private static final String NETDEV_HOOK = "netdev";
+    private static final String WAN_STATUS_HOOK = "wan_status";
+    private static final String WAN_LINK_HOOK = "get_wan_link";
+    
+    private final RouterResponseCache responseCache;
+    
+    @Override
+    public String getTrafficStats() {
+        return responseCache.fetch(NETDEV_HOOK);
+    }
+    
+    @Override
+    public Timestamped<String> getTrafficStatsSnapshot() {
+        return responseCache.fetchWithAge(NETDEV_HOOK, null);
+    }
+    
+    @Override
+    public String getWanStatus() {
+        return responseCache.fetch(WAN_STATUS_HOOK);
+    }
+    
+    @Override
+    public String getWanLink(int unit) {
+        return responseCache.fetch(WAN_LINK_HOOK, String.valueOf(unit));
+    }
+}
@@ -0,0 +1,88 @@
+package com.asusrouter.infrastructure.adapters.in.mcp.generated;
+
+import java.io.IOException;
+import java.util.Collection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Field writers used by the generated {@code *JsonWriter} serializers.
+ * Covers the nullable cases so generated code stays one call per field;
+ * primitives and Strings are written with the JsonGenerator directly.
+ */
+public final class McpJsonWriters {
+    
+    private McpJsonWriters() {
+    }
+    
+    public static void writeNumberField(JsonGenerator gen, String name, Integer value) throws IOException {
+        if (value == null) {
+            gen.writeNullField(name);
+        } else {
+            gen.writeNumberField(name, value.intValue());
+        }
+    }
+    
+    public static void writeNumberField(JsonGenerator gen, String name, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNullField(name);
+        } else {
+            gen.writeNumberField(name, value.longValue());
+        }
+    }
+    
+    public static void writeNumberField(JsonGenerator gen, String name, Double value) throws IOException {
+        if (value == null) {
+            gen.writeNullField(name);
+        } else {
+            gen.writeNumberField(name, value.doubleValue());
+        }
+    }
+    
+    public static void writeBooleanField(JsonGenerator gen, String name, Boolean value) throws IOException {
+        if (value == null) {
+            gen.writeNullField(name);
+        } else {
+            gen.writeBooleanField(name, value.booleanValue());
+        }
+    }
+    
+    /**
+     * Write a nested value with its generated writer.
+     */
+    public static <T> void writeObjectField(JsonGenerator gen, String name, T value,
+                                            JsonSerializer<T> writer, SerializerProvider provider) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            writer.serialize(value, gen, provider);
+        }
+    }
+    
+    /**
+     * Write a collection, using the generated writer for elements when there is one.
+     * @param writer Element writer, or null to let Jackson pick the serializer
+     */
+    public static <T> void writeArrayField(JsonGenerator gen, String name, Collection<T> values,
+                                           JsonSerializer<T> writer, SerializerProvider provider) throws IOException {
+        gen.writeFieldName(name);
+        if (values == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(values, values.size());
+        for (T value : values) {
+            if (value == null) {
+                gen.writeNull();
+            } else if (writer != null) {
+                writer.serialize(value, gen, provider);
+            } else {
+                provider.defaultSerializeValue(value, gen);
+            }
+        }
+        gen.writeEndArray();
+    }
+}
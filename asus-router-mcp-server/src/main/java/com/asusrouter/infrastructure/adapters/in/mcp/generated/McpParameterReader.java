@@ -0,0 +1,156 @@
+package com.asusrouter.infrastructure.adapters.in.mcp.generated;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Token-level readers used by the generated {@code McpToolDispatcher}.
+ * Tool parameters are read field by field from a parser positioned on the
+ * JSON-RPC params object, so no intermediate JsonNode tree is built.
+ * Malformed values are reported as {@link IllegalArgumentException}, which
+ * the JSON-RPC handler maps to Invalid params.
+ */
+public final class McpParameterReader {
+    
+    /**
+     * Reads one value at the parser's current token.
+     */
+    @FunctionalInterface
+    public interface ValueReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+    
+    private McpParameterReader() {
+    }
+    
+    /**
+     * Open a parser over JSON-RPC params.
+     * Params decoded by the stdio transport arrive as a {@link TokenBuffer};
+     * params built in code (maps, trees) are replayed as tokens.
+     * @return Parser, or null if there are no params
+     */
+    public static JsonParser open(Object params, ObjectMapper objectMapper) throws IOException {
+        if (params == null) {
+            return null;
+        }
+        if (params instanceof TokenBuffer tokens) {
+            return tokens.asParser(objectMapper);
+        }
+        if (params instanceof JsonNode node) {
+            return objectMapper.treeAsTokens(node);
+        }
+        TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+        objectMapper.writeValue(tokens, params);
+        return tokens.asParser(objectMapper);
+    }
+    
+    /**
+     * Advance to the value of the next params field.
+     * @return true with the parser on the field's value; false once the object ends
+     */
+    public static boolean nextField(JsonParser parser) throws IOException {
+        if (parser == null) {
+            return false;
+        }
+        if (!parser.hasCurrentToken()) {
+            JsonToken first = parser.nextToken();
+            if (first == null || first == JsonToken.VALUE_NULL) {
+                return false;
+            }
+            if (first != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Tool params must be a JSON object");
+            }
+        }
+        if (parser.nextToken() != JsonToken.FIELD_NAME) {
+            return false;
+        }
+        parser.nextToken();
+        return true;
+    }
+    
+    public static String readString(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        requireScalar(parser);
+        return parser.getValueAsString();
+    }
+    
+    public static Integer readInteger(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        requireScalar(parser);
+        return parser.getValueAsInt();
+    }
+    
+    public static Long readLong(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        requireScalar(parser);
+        return parser.getValueAsLong();
+    }
+    
+    public static Double readDouble(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        requireScalar(parser);
+        return parser.getValueAsDouble();
+    }
+    
+    public static Boolean readBoolean(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        requireScalar(parser);
+        return parser.getValueAsBoolean();
+    }
+    
+    /**
+     * Read a text value and convert it, e.g. {@code MacAddress::new}.
+     */
+    public static <T> T readText(JsonParser parser, Function<String, T> factory) throws IOException {
+        String text = readString(parser);
+        return text == null ? null : factory.apply(text);
+    }
+    
+    public static <T> List<T> readList(JsonParser parser, ValueReader<T> elementReader) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Expected an array for parameter: " + parser.currentName());
+        }
+        List<T> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(elementReader.read(parser));
+        }
+        return values;
+    }
+    
+    /**
+     * Fail with Invalid params if a required parameter was not supplied.
+     */
+    public static <T> T require(T value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required parameter: " + name);
+        }
+        return value;
+    }
+    
+    private static void requireScalar(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            throw new IllegalArgumentException("Expected a scalar value for parameter: " + parser.currentName());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.asusrouter.infrastructure.config;
 
+import com.asusrouter.infrastructure.adapters.in.mcp.generated.McpSchemaModule;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -25,6 +26,9 @@ public class JacksonConfig {
         mapper.configure(SerializationFeature.INDENT_OUTPUT, false);
         mapper.configure(SerializationFeature.WRITE_NULL_MAP_VALUES, false);
         
+        // Generated reflection-free writers for the @McpSchema domain records
+        mapper.registerModule(new McpSchemaModule());
+        
         return mapper;
     }
 }
@@ -0,0 +1,35 @@
+package com.asusrouter.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the metrics journal.
+ * Maps to application.yml properties under 'asus.router.journal'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "asus.router.journal")
+@Data
+public class JournalProperties {
+    
+    /**
+     * Persist metric samples so history survives restarts.
+     */
+    private boolean enabled = true;
+    
+    /**
+     * Directory holding the journal segment files.
+     */
+    private String directory = System.getProperty("user.home") + "/.asus-router-mcp/journal";
+    
+    /**
+     * Size in bytes of one memory-mapped segment file; a full segment is closed and a new one started.
+     */
+    private long segmentSize = 16 * 1024 * 1024;
+    
+    /**
+     * Time in milliseconds a closed segment is kept before it is deleted.
+     */
+    private long retention = 7L * 24 * 60 * 60 * 1000;
+}
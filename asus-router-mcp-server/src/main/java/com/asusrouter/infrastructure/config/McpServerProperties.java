@@ -0,0 +1,36 @@
+package com.asusrouter.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the MCP server.
+ * Maps to application.yml properties under 'mcp.server'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "mcp.server")
+@Data
+public class McpServerProperties {
+    
+    /**
+     * Server name reported to MCP clients.
+     */
+    private String name = "asus-router";
+    
+    /**
+     * Server version reported to MCP clients.
+     */
+    private String version = "1.0.0";
+    
+    /**
+     * Transport type (only stdio is supported).
+     */
+    private String transport = "stdio";
+    
+    /**
+     * Maximum number of requests processed at the same time.
+     * Further requests wait on stdin until a slot frees up.
+     */
+    private int maxConcurrentRequests = 16;
+}
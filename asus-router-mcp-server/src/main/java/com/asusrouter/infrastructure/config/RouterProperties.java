@@ -1,5 +1,9 @@
 package com.asusrouter.infrastructure.config;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -48,6 +52,52 @@ public class RouterProperties {
      */
     private int readTimeout = 10000;
     
+    /**
+     * Maximum number of pooled keep-alive connections to the router.
+     */
+    private int maxConnections = 4;
+    
+    /**
+     * Time in milliseconds an idle pooled connection is kept open.
+     */
+    private int connectionMaxIdleTime = 30000;
+    
+    /**
+     * Time in milliseconds hook requests are collected into one appGet.cgi call.
+     * Set to 0 to send every hook on its own.
+     */
+    private int batchWindow = 5;
+    
+    /**
+     * Maximum number of hooks sent in one appGet.cgi call.
+     */
+    private int maxBatchSize = 8;
+    
+    /**
+     * Assumed lifetime in milliseconds of an asus_token after login.
+     */
+    private long sessionLifetime = 600000;
+    
+    /**
+     * Time in milliseconds before expiry at which the session is renewed in the background.
+     */
+    private long sessionRenewMargin = 60000;
+    
+    /**
+     * Response cache settings.
+     */
+    private Cache cache = new Cache();
+    
+    /**
+     * Background metric poller settings.
+     */
+    private Poller poller = new Poller();
+    
+    /**
+     * Metric history sampling settings.
+     */
+    private History history = new History();
+    
     /**
      * Get base URL for router.
      */
@@ -55,4 +105,70 @@ public class RouterProperties {
         String protocol = useHttps ? "https" : "http";
         return String.format("%s://%s:%d", protocol, host, port);
     }
+    
+    /**
+     * Per-hook response cache settings under 'asus.router.cache'.
+     */
+    @Data
+    public static class Cache {
+        
+        /**
+         * Maximum number of cached hook responses; least recently used entries are evicted.
+         */
+        private int maxEntries = 256;
+        
+        /**
+         * Serve expired client list snapshots immediately while refreshing in the background.
+         */
+        private boolean staleWhileRevalidate = true;
+        
+        /**
+         * Maximum age in milliseconds of a snapshot that may still be served stale.
+         */
+        private long maxStale = 300000;
+        
+        /**
+         * Time-to-live in milliseconds per hook name. Hooks without an entry are not cached.
+         */
+        private Map<String, Long> ttl = new HashMap<>();
+    }
+    
+    /**
+     * Background metric poller settings under 'asus.router.poller'.
+     */
+    @Data
+    public static class Poller {
+        
+        /**
+         * Sample the configured hooks in the background.
+         */
+        private boolean enabled = true;
+        
+        /**
+         * A polled snapshot is served while it is younger than this many intervals.
+         */
+        private int maxAgeIntervals = 2;
+        
+        /**
+         * Polling interval in milliseconds per hook expression, e.g. "uptime" or "get_clientlist(2)".
+         */
+        private Map<String, Long> intervals = new LinkedHashMap<>();
+    }
+    
+    /**
+     * Metric history sampling settings under 'asus.router.history'.
+     */
+    @Data
+    public static class History {
+        
+        /**
+         * Sample CPU, memory and traffic into the metric history in the background.
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Time in milliseconds between samples.
+         */
+        private long sampleInterval = 1000;
+    }
 }
@@ -9,11 +9,13 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import io.netty.channel.ChannelOption;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import lombok.RequiredArgsConstructor;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * Configuration for WebClient used to communicate with ASUS Router.
@@ -27,7 +29,9 @@ public class WebClientConfig {
     @Bean
     public WebClient webClient() {
         validateRouterProperties();
-        HttpClient httpClient = HttpClient.create()
+        HttpClient httpClient = HttpClient.create(connectionProvider())
+            .keepAlive(true)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, routerProperties.getConnectionTimeout())
             .responseTimeout(Duration.ofMillis(routerProperties.getReadTimeout()))
             .secure(sslContextSpec -> {
                 try {
@@ -54,6 +58,19 @@ public class WebClientConfig {
             .build();
     }
     
+    /**
+     * Fixed-size pool of keep-alive connections to the router.
+     * The router is a single host, so a small pool avoids a TCP (and TLS)
+     * handshake on every hook call without exhausting the router's httpd.
+     */
+    private ConnectionProvider connectionProvider() {
+        return ConnectionProvider.builder("asus-router")
+            .maxConnections(routerProperties.getMaxConnections())
+            .maxIdleTime(Duration.ofMillis(routerProperties.getConnectionMaxIdleTime()))
+            .pendingAcquireTimeout(Duration.ofMillis(routerProperties.getReadTimeout()))
+            .build();
+    }
+    
     /**
      * Validate router properties before creating WebClient.
      * Fails fast with clear error messages if configuration is invalid.
@@ -68,5 +85,8 @@ public class WebClientConfig {
         if (routerProperties.getReadTimeout() <= 0) {
             throw new IllegalStateException("Router read timeout must be positive");
         }
+        if (routerProperties.getMaxConnections() <= 0) {
+            throw new IllegalStateException("Router max connections must be positive");
+        }
     }
 }
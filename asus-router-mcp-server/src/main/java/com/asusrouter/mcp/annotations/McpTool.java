@@ -44,4 +44,18 @@ public @interface McpTool {
      * <p>Example: {"ROUTER_AUTH_FAILED", "ROUTER_COMM_ERROR", "CLIENT_NOT_FOUND"}
      */
     String[] errorCodes() default {};
+    
+    /**
+     * Name of the method the generated dispatcher invokes for this tool.
+     * It must take the same parameters as {@code execute}, which remains
+     * the source of the tool's parameter schema.
+     */
+    String method() default "execute";
+    
+    /**
+     * Whether the tool returns the router's JSON document as a String.
+     * Such results are written into the response as JSON rather than as an
+     * escaped string, after a validity check.
+     */
+    boolean rawJson() default false;
 }
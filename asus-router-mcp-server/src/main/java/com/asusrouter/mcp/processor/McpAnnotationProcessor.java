@@ -5,10 +5,12 @@ import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
@@ -22,14 +24,20 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 
 import com.asusrouter.mcp.annotations.McpParameter;
+import com.asusrouter.mcp.annotations.McpSchema;
 import com.asusrouter.mcp.annotations.McpTool;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
@@ -43,7 +51,9 @@ import com.squareup.javapoet.TypeSpec;
 /**
  * Annotation processor for MCP annotations.
  * Processes @McpTool, @McpSchema, and @McpParameter annotations at compile-time
- * to generate type-safe tool schemas and the MCP tool registry.
+ * to generate type-safe tool schemas, the MCP tool registry, the tool
+ * dispatcher used by the JSON-RPC handler, and reflection-free JSON writers
+ * for the @McpSchema records.
  */
 @SupportedAnnotationTypes({
     "com.asusrouter.mcp.annotations.McpTool",
@@ -54,10 +64,25 @@ import com.squareup.javapoet.TypeSpec;
 public class McpAnnotationProcessor extends AbstractProcessor {
     
     private static final String TOOL_SCHEMA_CLASS_NAME = "ToolSchema";
+    private static final String GENERATED_PACKAGE = "com.asusrouter.infrastructure.adapters.in.mcp.generated";
+    private static final ClassName PARAMETER_READER = ClassName.get(GENERATED_PACKAGE, "McpParameterReader");
+    private static final ClassName JSON_PARSER = ClassName.get("com.fasterxml.jackson.core", "JsonParser");
+    private static final ClassName OBJECT_MAPPER = ClassName.get("com.fasterxml.jackson.databind", "ObjectMapper");
+    private static final ClassName COMPONENT = ClassName.get("org.springframework.stereotype", "Component");
+    private static final ClassName RAW_JSON = ClassName.get("com.asusrouter.infrastructure.adapter.in.mcp.protocol", "RawJson");
+    private static final ClassName JSON_WRITERS = ClassName.get(GENERATED_PACKAGE, "McpJsonWriters");
+    private static final ClassName JSON_GENERATOR = ClassName.get("com.fasterxml.jackson.core", "JsonGenerator");
+    private static final ClassName SERIALIZER_PROVIDER = ClassName.get("com.fasterxml.jackson.databind", "SerializerProvider");
+    private static final ClassName STD_SERIALIZER = ClassName.get("com.fasterxml.jackson.databind.ser.std", "StdSerializer");
+    private static final ClassName JSON_IGNORE = ClassName.get("com.fasterxml.jackson.annotation", "JsonIgnore");
+    private static final ClassName SIMPLE_MODULE = ClassName.get("com.fasterxml.jackson.databind.module", "SimpleModule");
     
     private Filer filer;
     private Messager messager;
-    private final Map<String, ToolMetadata> tools = new HashMap<>();
+    // Sorted so generated artifacts are stable across builds
+    private final Map<String, ToolMetadata> tools = new TreeMap<>();
+    // Records that get a generated JSON writer: @McpSchema records and the records they contain
+    private final Map<String, TypeElement> schemaRecords = new TreeMap<>();
     
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
@@ -70,19 +95,11 @@ public class McpAnnotationProcessor extends AbstractProcessor {
     @SuppressWarnings("all") // Always returns true per annotation processor contract
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         if (roundEnv.processingOver()) {
-            // Final round - generate registry and JSON file
-            if (!tools.isEmpty()) {
-                try {
-                    generateToolRegistry();
-                    generateMcpToolsJson();
-                } catch (IOException e) {
-                    error("Failed to generate MCP tool artifacts: " + e.getMessage());
-                }
-            }
             return true;
         }
         
         // Process @McpTool annotations
+        int known = tools.size();
         for (Element element : roundEnv.getElementsAnnotatedWith(McpTool.class)) {
             if (element.getKind() != ElementKind.INTERFACE) {
                 error("@McpTool can only be applied to interfaces", element);
@@ -92,6 +109,34 @@ public class McpAnnotationProcessor extends AbstractProcessor {
             processToolAnnotation((TypeElement) element);
         }
         
+        // Collect @McpSchema records
+        int knownRecords = schemaRecords.size();
+        for (Element element : roundEnv.getElementsAnnotatedWith(McpSchema.class)) {
+            if (element.getKind() == ElementKind.RECORD) {
+                collectSchemaRecord((TypeElement) element);
+            }
+        }
+        
+        if (schemaRecords.size() > knownRecords) {
+            try {
+                generateJsonWriters();
+            } catch (IOException e) {
+                error("Failed to generate JSON writers: " + e.getMessage());
+            }
+        }
+        
+        // Generate registry, dispatcher and JSON file in the same round, so the
+        // generated classes are compiled together with the code that uses them
+        if (tools.size() > known) {
+            try {
+                generateToolRegistry();
+                generateToolDispatcher();
+                generateMcpToolsJson();
+            } catch (IOException e) {
+                error("Failed to generate MCP tool artifacts: " + e.getMessage());
+            }
+        }
+        
         return true;
     }
     
@@ -118,12 +163,19 @@ public class McpAnnotationProcessor extends AbstractProcessor {
         }
         
         // Find execute method
-        ExecutableElement executeMethod = findExecuteMethod(element);
+        ExecutableElement executeMethod = findMethod(element, "execute");
         if (executeMethod == null) {
             error("@McpTool interface must have an 'execute' method", element);
             return;
         }
         
+        // Method the dispatcher calls; defaults to execute
+        ExecutableElement invokedMethod = findMethod(element, annotation.method());
+        if (invokedMethod == null || !sameParameterTypes(executeMethod, invokedMethod)) {
+            error("@McpTool method '" + annotation.method() + "' must exist and take the same parameters as 'execute'", element);
+            return;
+        }
+        
         // Build tool metadata
         ToolMetadata metadata = new ToolMetadata();
         metadata.name = toolName;
@@ -131,6 +183,8 @@ public class McpAnnotationProcessor extends AbstractProcessor {
         metadata.errorCodes = Arrays.asList(annotation.errorCodes());
         metadata.interfaceElement = element;
         metadata.executeMethod = executeMethod;
+        metadata.invokedMethod = invokedMethod;
+        metadata.rawJson = annotation.rawJson();
         metadata.inputParameters = extractInputParameters(executeMethod);
         metadata.returnType = executeMethod.getReturnType();
         
@@ -144,11 +198,11 @@ public class McpAnnotationProcessor extends AbstractProcessor {
         }
     }
     
-    private ExecutableElement findExecuteMethod(TypeElement element) {
+    private ExecutableElement findMethod(TypeElement element, String name) {
         for (Element enclosed : element.getEnclosedElements()) {
             if (enclosed.getKind() == ElementKind.METHOD) {
                 ExecutableElement method = (ExecutableElement) enclosed;
-                if ("execute".equals(method.getSimpleName().toString())) {
+                if (name.equals(method.getSimpleName().toString())) {
                     return method;
                 }
             }
@@ -156,16 +210,34 @@ public class McpAnnotationProcessor extends AbstractProcessor {
         return null;
     }
     
+    private boolean sameParameterTypes(ExecutableElement first, ExecutableElement second) {
+        List<? extends VariableElement> a = first.getParameters();
+        List<? extends VariableElement> b = second.getParameters();
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (!processingEnv.getTypeUtils().isSameType(a.get(i).asType(), b.get(i).asType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private List<ParameterMetadata> extractInputParameters(ExecutableElement method) {
         List<ParameterMetadata> parameters = new ArrayList<>();
         
         for (VariableElement param : method.getParameters()) {
             ParameterMetadata metadata = new ParameterMetadata();
             metadata.name = param.getSimpleName().toString();
+            metadata.variableName = metadata.name;
             metadata.type = param.asType();
             
             McpParameter annotation = param.getAnnotation(McpParameter.class);
             if (annotation != null) {
+                if (!annotation.name().isEmpty()) {
+                    metadata.name = annotation.name();
+                }
                 metadata.required = annotation.required();
                 metadata.pattern = annotation.pattern();
                 metadata.min = annotation.min();
@@ -181,7 +253,7 @@ public class McpAnnotationProcessor extends AbstractProcessor {
     
     private void generateToolSchemaClass(ToolMetadata metadata) throws IOException {
         String className = toSchemaClassName(metadata.name);
-        String packageName = "com.asusrouter.infrastructure.adapters.in.mcp.generated";
+        String packageName = GENERATED_PACKAGE;
         
         TypeSpec.Builder classBuilder = TypeSpec.classBuilder(className)
             .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
@@ -221,7 +293,16 @@ public class McpAnnotationProcessor extends AbstractProcessor {
                 .build()
         );
         
-        // Future enhancement: Add getInputSchema(), getOutputSchema(), getErrors() methods
+        classBuilder.addMethod(
+            MethodSpec.methodBuilder("getInputSchema")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .returns(String.class)
+                .addStatement("return $S", inputSchemaJson(metadata))
+                .build()
+        );
+        
+        // Future enhancement: Add getOutputSchema(), getErrors() methods
         // when full MCP schema generation is implemented
         
         TypeSpec typeSpec = classBuilder.build();
@@ -234,7 +315,7 @@ public class McpAnnotationProcessor extends AbstractProcessor {
     }
     
     private void generateToolRegistry() throws IOException {
-        String packageName = "com.asusrouter.infrastructure.adapters.in.mcp.generated";
+        String packageName = GENERATED_PACKAGE;
         
         TypeSpec.Builder registryBuilder = TypeSpec.classBuilder("McpToolRegistry")
             .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
@@ -248,7 +329,7 @@ public class McpAnnotationProcessor extends AbstractProcessor {
         TypeName mapTypeName = ParameterizedTypeName.get(mapType, stringType, toolSchemaType);
         
         CodeBlock.Builder staticInitBuilder = CodeBlock.builder()
-            .addStatement("$T<String, " + TOOL_SCHEMA_CLASS_NAME + "> map = new $T<>()", Map.class, HashMap.class);
+            .addStatement("$T<String, " + TOOL_SCHEMA_CLASS_NAME + "> map = new $T<>()", Map.class, LinkedHashMap.class);
         
         for (String toolName : tools.keySet()) {
             String schemaClassName = toSchemaClassName(toolName);
@@ -259,9 +340,9 @@ public class McpAnnotationProcessor extends AbstractProcessor {
         
         registryBuilder.addField(
             FieldSpec.builder(mapTypeName, "TOOLS", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
-                .initializer(staticInitBuilder.build())
                 .build()
         );
+        registryBuilder.addStaticBlock(staticInitBuilder.build());
         
         // Add getAllTools method
         registryBuilder.addMethod(
@@ -291,6 +372,423 @@ public class McpAnnotationProcessor extends AbstractProcessor {
         javaFile.writeTo(filer);
     }
     
+    /**
+     * Generate McpToolDispatcher: one Spring component holding every tool's
+     * use case, with a typed binding method per tool that reads parameters
+     * straight from the params token stream.
+     */
+    private void generateToolDispatcher() throws IOException {
+        TypeSpec.Builder dispatcherBuilder = TypeSpec.classBuilder("McpToolDispatcher")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addAnnotation(COMPONENT)
+            .addJavadoc("Generated dispatcher for all MCP tools\n")
+            .addJavadoc("Generated by McpAnnotationProcessor\n");
+        
+        CodeBlock.Builder toolNames = CodeBlock.builder().add("$T.of(", List.class);
+        int index = 0;
+        for (String toolName : tools.keySet()) {
+            toolNames.add(index++ == 0 ? "\n$S" : ",\n$S", toolName);
+        }
+        toolNames.add("\n)");
+        
+        dispatcherBuilder.addField(
+            FieldSpec.builder(ParameterizedTypeName.get(List.class, String.class), "TOOL_NAMES",
+                    Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer(toolNames.build())
+                .build()
+        );
+        dispatcherBuilder.addField(OBJECT_MAPPER, "objectMapper", Modifier.PRIVATE, Modifier.FINAL);
+        
+        MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(OBJECT_MAPPER, "objectMapper")
+            .addStatement("this.objectMapper = objectMapper");
+        
+        CodeBlock.Builder cases = CodeBlock.builder()
+            .add("return switch (method) {\n$>");
+        
+        for (ToolMetadata metadata : tools.values()) {
+            ClassName useCaseType = ClassName.get(metadata.interfaceElement);
+            String field = decapitalize(metadata.interfaceElement.getSimpleName().toString());
+            
+            dispatcherBuilder.addField(useCaseType, field, Modifier.PRIVATE, Modifier.FINAL);
+            constructor.addParameter(useCaseType, field)
+                .addStatement("this.$N = $N", field, field);
+            
+            String invoked = metadata.invokedMethod.getSimpleName().toString();
+            if (metadata.inputParameters.isEmpty()) {
+                cases.add("case $S -> $L;\n", metadata.name,
+                    resultExpression(metadata, CodeBlock.of("$N.$N()", field, invoked)));
+            } else {
+                String binder = decapitalize(toSchemaClassName(metadata.name)
+                    .replace(TOOL_SCHEMA_CLASS_NAME, ""));
+                dispatcherBuilder.addMethod(generateBinder(metadata, binder, field, invoked));
+                cases.add("case $S -> $N(params);\n", metadata.name, binder);
+            }
+        }
+        
+        cases.add("default -> throw new $T($S + method);\n", IllegalArgumentException.class, "Unknown method: ")
+            .add("$<};\n");
+        
+        dispatcherBuilder.addMethod(constructor.build());
+        
+        dispatcherBuilder.addMethod(
+            MethodSpec.methodBuilder("toolNames")
+                .addJavadoc("Names of all tools, sorted\n")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(List.class, String.class))
+                .addStatement("return TOOL_NAMES")
+                .build()
+        );
+        
+        dispatcherBuilder.addMethod(
+            MethodSpec.methodBuilder("dispatch")
+                .addJavadoc("Invoke a tool with its JSON-RPC params.\n")
+                .addJavadoc("@throws IllegalArgumentException for unknown tools or invalid params\n")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(Object.class)
+                .addParameter(String.class, "method")
+                .addParameter(Object.class, "params")
+                .addException(IOException.class)
+                .addCode(cases.build())
+                .build()
+        );
+        
+        JavaFile javaFile = JavaFile.builder(GENERATED_PACKAGE, dispatcherBuilder.build())
+            .addFileComment("AUTO-GENERATED by McpAnnotationProcessor - DO NOT EDIT")
+            .build();
+        
+        javaFile.writeTo(filer);
+    }
+    
+    private MethodSpec generateBinder(ToolMetadata metadata, String binder, String field, String invoked) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder(binder)
+            .addModifiers(Modifier.PRIVATE)
+            .returns(Object.class)
+            .addParameter(Object.class, "params")
+            .addException(IOException.class);
+        
+        for (ParameterMetadata parameter : metadata.inputParameters) {
+            method.addStatement("$T $N = null", TypeName.get(parameter.type).box(), parameter.variableName);
+        }
+        
+        method.beginControlFlow("try ($T parser = $T.open(params, objectMapper))", JSON_PARSER, PARAMETER_READER)
+            .beginControlFlow("while ($T.nextField(parser))", PARAMETER_READER)
+            .addCode("switch (parser.currentName()) {\n$>");
+        for (ParameterMetadata parameter : metadata.inputParameters) {
+            method.addCode("case $S -> $N = $L;\n", parameter.name, parameter.variableName,
+                readExpression(parameter.type, "parser"));
+        }
+        method.addCode("default -> parser.skipChildren();\n")
+            .addCode("$<}\n")
+            .endControlFlow()
+            .endControlFlow();
+        
+        CodeBlock.Builder arguments = CodeBlock.builder();
+        for (int i = 0; i < metadata.inputParameters.size(); i++) {
+            ParameterMetadata parameter = metadata.inputParameters.get(i);
+            if (i > 0) {
+                arguments.add(", ");
+            }
+            if (parameter.required || parameter.type.getKind().isPrimitive()) {
+                arguments.add("$T.require($N, $S)", PARAMETER_READER, parameter.variableName, parameter.name);
+            } else {
+                arguments.add("$N", parameter.variableName);
+            }
+        }
+        CodeBlock call = CodeBlock.of("$N.$N($L)", field, invoked, arguments.build());
+        return method.addStatement("return $L", resultExpression(metadata, call)).build();
+    }
+    
+    /**
+     * Raw JSON tools hand their router document to RawJson for pass-through.
+     */
+    private CodeBlock resultExpression(ToolMetadata metadata, CodeBlock call) {
+        return metadata.rawJson ? CodeBlock.of("$T.passThrough($L)", RAW_JSON, call) : call;
+    }
+    
+    /**
+     * Expression reading a value of the given type at the parser's current token.
+     */
+    private CodeBlock readExpression(TypeMirror type, String parser) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror boxed = type.getKind().isPrimitive()
+            ? types.boxedClass((PrimitiveType) type).asType()
+            : type;
+        String erased = types.erasure(boxed).toString();
+        
+        switch (erased) {
+            case "java.lang.String":
+                return CodeBlock.of("$T.readString($N)", PARAMETER_READER, parser);
+            case "java.lang.Integer":
+                return CodeBlock.of("$T.readInteger($N)", PARAMETER_READER, parser);
+            case "java.lang.Long":
+                return CodeBlock.of("$T.readLong($N)", PARAMETER_READER, parser);
+            case "java.lang.Double":
+                return CodeBlock.of("$T.readDouble($N)", PARAMETER_READER, parser);
+            case "java.lang.Boolean":
+                return CodeBlock.of("$T.readBoolean($N)", PARAMETER_READER, parser);
+            case "java.util.List": {
+                TypeMirror element = ((DeclaredType) boxed).getTypeArguments().get(0);
+                return CodeBlock.of("$T.readList($N, element -> $L)", PARAMETER_READER, parser,
+                    readExpression(element, "element"));
+            }
+            default:
+                break;
+        }
+        
+        // Value objects such as MacAddress are built from their text form
+        TypeElement typeElement = (TypeElement) types.asElement(boxed);
+        if (hasStringConstructor(typeElement)) {
+            return CodeBlock.of("$T.readText($N, $T::new)", PARAMETER_READER, parser, ClassName.get(typeElement));
+        }
+        return CodeBlock.of("objectMapper.readValue($N, $T.class)", parser, TypeName.get(types.erasure(boxed)));
+    }
+    
+    private boolean hasStringConstructor(TypeElement typeElement) {
+        for (Element enclosed : typeElement.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.CONSTRUCTOR && enclosed.getModifiers().contains(Modifier.PUBLIC)) {
+                List<? extends VariableElement> parameters = ((ExecutableElement) enclosed).getParameters();
+                if (parameters.size() == 1 && parameters.get(0).asType().toString().equals("java.lang.String")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    private void collectSchemaRecord(TypeElement record) {
+        String qualifiedName = record.getQualifiedName().toString();
+        if (schemaRecords.containsKey(qualifiedName)) {
+            return;
+        }
+        schemaRecords.put(qualifiedName, record);
+        
+        for (PropertyMetadata property : extractJsonProperties(record)) {
+            TypeElement nested = recordOf(elementTypeOf(property.type));
+            if (nested != null) {
+                collectSchemaRecord(nested);
+            }
+        }
+    }
+    
+    /**
+     * Properties Jackson would serialize for a record: its components not
+     * marked @JsonIgnore, then public getX()/isX() bean getters, named the
+     * way Jackson names them.
+     */
+    private List<PropertyMetadata> extractJsonProperties(TypeElement record) {
+        List<PropertyMetadata> properties = new ArrayList<>();
+        Set<String> componentNames = new HashSet<>();
+        
+        for (RecordComponentElement component : record.getRecordComponents()) {
+            String name = component.getSimpleName().toString();
+            componentNames.add(name);
+            if (isJsonIgnored(component)) {
+                continue;
+            }
+            PropertyMetadata property = new PropertyMetadata();
+            property.name = name;
+            property.accessor = name;
+            property.type = component.asType();
+            properties.add(property);
+        }
+        
+        for (Element enclosed : record.getEnclosedElements()) {
+            if (enclosed.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) enclosed;
+            String methodName = method.getSimpleName().toString();
+            if (componentNames.contains(methodName)
+                    || !method.getModifiers().contains(Modifier.PUBLIC)
+                    || method.getModifiers().contains(Modifier.STATIC)
+                    || !method.getParameters().isEmpty()
+                    || method.getReturnType().getKind() == TypeKind.VOID) {
+                continue;
+            }
+            
+            String name = null;
+            if (methodName.startsWith("get") && methodName.length() > 3) {
+                name = manglePropertyName(methodName, 3);
+            } else if (methodName.startsWith("is") && methodName.length() > 2 && isBoolean(method.getReturnType())) {
+                name = manglePropertyName(methodName, 2);
+            }
+            if (name != null) {
+                PropertyMetadata property = new PropertyMetadata();
+                property.name = name;
+                property.accessor = methodName;
+                property.type = method.getReturnType();
+                properties.add(property);
+            }
+        }
+        return properties;
+    }
+    
+    /**
+     * @JsonIgnore on a record component lands on its accessor and field,
+     * not on the component itself.
+     */
+    private boolean isJsonIgnored(RecordComponentElement component) {
+        return component.getAccessor().getAnnotationMirrors().stream()
+            .anyMatch(mirror -> JSON_IGNORE.equals(TypeName.get(mirror.getAnnotationType())));
+    }
+    
+    /**
+     * Jackson's default getter naming: lower-case the leading upper-case run
+     * (getTotalKB -> totalKB, getURL -> url, is24GHzHidden -> 24GHzHidden).
+     */
+    private String manglePropertyName(String methodName, int offset) {
+        StringBuilder name = new StringBuilder(methodName.length() - offset);
+        int i = offset;
+        for (; i < methodName.length(); i++) {
+            char c = methodName.charAt(i);
+            char lower = Character.toLowerCase(c);
+            if (c == lower) {
+                break;
+            }
+            name.append(lower);
+        }
+        return name.append(methodName, i, methodName.length()).toString();
+    }
+    
+    private boolean isBoolean(TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN || "java.lang.Boolean".equals(type.toString());
+    }
+    
+    private TypeMirror elementTypeOf(TypeMirror type) {
+        if (isCollection(type)) {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            return arguments.isEmpty() ? type : arguments.get(0);
+        }
+        return type;
+    }
+    
+    private boolean isCollection(TypeMirror type) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror collection = types.erasure(
+            processingEnv.getElementUtils().getTypeElement("java.util.Collection").asType());
+        return type.getKind() == TypeKind.DECLARED && types.isAssignable(types.erasure(type), collection);
+    }
+    
+    private TypeElement recordOf(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        Element element = ((DeclaredType) type).asElement();
+        return element.getKind() == ElementKind.RECORD ? (TypeElement) element : null;
+    }
+    
+    /**
+     * Generate one StdSerializer per collected record plus McpSchemaModule,
+     * which registers them all with an ObjectMapper.
+     */
+    private void generateJsonWriters() throws IOException {
+        TypeSpec.Builder moduleBuilder = TypeSpec.classBuilder("McpSchemaModule")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .superclass(SIMPLE_MODULE)
+            .addJavadoc("Registers the generated JSON writers for MCP schema records\n")
+            .addJavadoc("Generated by McpAnnotationProcessor\n");
+        
+        MethodSpec.Builder moduleConstructor = MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PUBLIC)
+            .addStatement("super($S)", "McpSchemaModule");
+        
+        for (TypeElement record : schemaRecords.values()) {
+            ClassName recordType = ClassName.get(record);
+            ClassName writerType = writerClassName(record);
+            
+            MethodSpec.Builder serialize = MethodSpec.methodBuilder("serialize")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(recordType, "value")
+                .addParameter(JSON_GENERATOR, "gen")
+                .addParameter(SERIALIZER_PROVIDER, "provider")
+                .addException(IOException.class)
+                .addStatement("gen.writeStartObject(value)");
+            
+            for (PropertyMetadata property : extractJsonProperties(record)) {
+                serialize.addStatement(writeFieldStatement(property));
+            }
+            serialize.addStatement("gen.writeEndObject()");
+            
+            TypeSpec writer = TypeSpec.classBuilder(writerType)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .superclass(ParameterizedTypeName.get(STD_SERIALIZER, recordType))
+                .addJavadoc("Generated JSON writer for $T\n", recordType)
+                .addJavadoc("Generated by McpAnnotationProcessor\n")
+                .addField(FieldSpec.builder(writerType, "INSTANCE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("new $T()", writerType)
+                    .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                    .addModifiers(Modifier.PRIVATE)
+                    .addStatement("super($T.class)", recordType)
+                    .build())
+                .addMethod(serialize.build())
+                .build();
+            
+            JavaFile.builder(GENERATED_PACKAGE, writer)
+                .addFileComment("AUTO-GENERATED by McpAnnotationProcessor - DO NOT EDIT")
+                .build()
+                .writeTo(filer);
+            
+            moduleConstructor.addStatement("addSerializer($T.class, $T.INSTANCE)", recordType, writerType);
+        }
+        
+        moduleBuilder.addMethod(moduleConstructor.build());
+        
+        JavaFile.builder(GENERATED_PACKAGE, moduleBuilder.build())
+            .addFileComment("AUTO-GENERATED by McpAnnotationProcessor - DO NOT EDIT")
+            .build()
+            .writeTo(filer);
+    }
+    
+    private CodeBlock writeFieldStatement(PropertyMetadata property) {
+        String value = "value." + property.accessor + "()";
+        TypeMirror type = property.type;
+        
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return CodeBlock.of("gen.writeBooleanField($S, $L)", property.name, value);
+            case INT: case LONG: case SHORT: case BYTE: case FLOAT: case DOUBLE:
+                return CodeBlock.of("gen.writeNumberField($S, $L)", property.name, value);
+            default:
+                break;
+        }
+        
+        switch (type.toString()) {
+            case "java.lang.String":
+                return CodeBlock.of("gen.writeStringField($S, $L)", property.name, value);
+            case "java.lang.Integer": case "java.lang.Long": case "java.lang.Double":
+                return CodeBlock.of("$T.writeNumberField(gen, $S, $L)", JSON_WRITERS, property.name, value);
+            case "java.lang.Boolean":
+                return CodeBlock.of("$T.writeBooleanField(gen, $S, $L)", JSON_WRITERS, property.name, value);
+            default:
+                break;
+        }
+        
+        TypeElement record = recordOf(type);
+        if (record != null && schemaRecords.containsKey(record.getQualifiedName().toString())) {
+            return CodeBlock.of("$T.writeObjectField(gen, $S, $L, $T.INSTANCE, provider)",
+                JSON_WRITERS, property.name, value, writerClassName(record));
+        }
+        if (isCollection(type)) {
+            TypeElement element = recordOf(elementTypeOf(type));
+            return element != null && schemaRecords.containsKey(element.getQualifiedName().toString())
+                ? CodeBlock.of("$T.writeArrayField(gen, $S, $L, $T.INSTANCE, provider)",
+                    JSON_WRITERS, property.name, value, writerClassName(element))
+                : CodeBlock.of("$T.writeArrayField(gen, $S, $L, null, provider)",
+                    JSON_WRITERS, property.name, value);
+        }
+        
+        // Anything else is left to Jackson
+        return CodeBlock.of("provider.defaultSerializeField($S, $L, gen)", property.name, value);
+    }
+    
+    private ClassName writerClassName(TypeElement record) {
+        return ClassName.get(GENERATED_PACKAGE, record.getSimpleName() + "JsonWriter");
+    }
+    
     private void generateMcpToolsJson() throws IOException {
         FileObject resource = filer.createResource(
             StandardLocation.CLASS_OUTPUT,
@@ -298,6 +796,7 @@ public class McpAnnotationProcessor extends AbstractProcessor {
             "generated/mcp-tools.json"
         );
         
+        // Same shape as the MCP tools/list result, served as-is at runtime
         try (Writer writer = resource.openWriter()) {
             writer.write("{\n");
             writer.write("  \"tools\": [\n");
@@ -306,7 +805,8 @@ public class McpAnnotationProcessor extends AbstractProcessor {
             for (ToolMetadata metadata : tools.values()) {
                 writer.write("    {\n");
                 writer.write("      \"name\": \"" + metadata.name + "\",\n");
-                writer.write("      \"description\": \"" + escapeJson(metadata.description) + "\"\n");
+                writer.write("      \"description\": \"" + escapeJson(metadata.description) + "\",\n");
+                writer.write("      \"inputSchema\": " + inputSchemaJson(metadata) + "\n");
                 writer.write("    }");
                 
                 if (++i < tools.size()) {
@@ -320,6 +820,96 @@ public class McpAnnotationProcessor extends AbstractProcessor {
         }
     }
     
+    /**
+     * JSON Schema for a tool's parameters, on one line.
+     */
+    private String inputSchemaJson(ToolMetadata metadata) {
+        StringBuilder json = new StringBuilder("{\"type\":\"object\",\"properties\":{");
+        List<String> required = new ArrayList<>();
+        
+        for (int i = 0; i < metadata.inputParameters.size(); i++) {
+            ParameterMetadata parameter = metadata.inputParameters.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(escapeJson(parameter.name)).append("\":");
+            appendPropertySchema(json, parameter.type, parameter.description, parameter.pattern,
+                parameter.min, parameter.max);
+            if (parameter.required) {
+                required.add(parameter.name);
+            }
+        }
+        json.append('}');
+        
+        if (!required.isEmpty()) {
+            json.append(",\"required\":[");
+            for (int i = 0; i < required.size(); i++) {
+                json.append(i > 0 ? "," : "").append('"').append(escapeJson(required.get(i))).append('"');
+            }
+            json.append(']');
+        }
+        return json.append('}').toString();
+    }
+    
+    private void appendPropertySchema(StringBuilder json, TypeMirror type, String description,
+                                      String pattern, double min, double max) {
+        // Value objects such as MacAddress carry their pattern on the type
+        Element typeElement = processingEnv.getTypeUtils().asElement(type);
+        McpParameter typeAnnotation = typeElement != null ? typeElement.getAnnotation(McpParameter.class) : null;
+        if (pattern.isEmpty() && typeAnnotation != null) {
+            pattern = typeAnnotation.pattern();
+        }
+        
+        String jsonType = jsonSchemaType(type);
+        json.append("{\"type\":\"").append(jsonType).append('"');
+        if (!description.isEmpty()) {
+            json.append(",\"description\":\"").append(escapeJson(description)).append('"');
+        }
+        if (!pattern.isEmpty() && jsonType.equals("string")) {
+            json.append(",\"pattern\":\"").append(escapeJson(pattern)).append('"');
+        }
+        if (min != Double.MIN_VALUE) {
+            json.append(",\"minimum\":").append(formatNumber(min));
+        }
+        if (max != Double.MAX_VALUE) {
+            json.append(",\"maximum\":").append(formatNumber(max));
+        }
+        if (jsonType.equals("array")) {
+            json.append(",\"items\":");
+            appendPropertySchema(json, elementTypeOf(type), "", "", Double.MIN_VALUE, Double.MAX_VALUE);
+        }
+        json.append('}');
+    }
+    
+    private String jsonSchemaType(TypeMirror type) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror boxed = type.getKind().isPrimitive()
+            ? types.boxedClass((PrimitiveType) type).asType()
+            : type;
+        
+        switch (boxed.toString()) {
+            case "java.lang.String": case "java.lang.Character":
+                return "string";
+            case "java.lang.Integer": case "java.lang.Long": case "java.lang.Short": case "java.lang.Byte":
+                return "integer";
+            case "java.lang.Double": case "java.lang.Float":
+                return "number";
+            case "java.lang.Boolean":
+                return "boolean";
+            default:
+                break;
+        }
+        if (isCollection(boxed)) {
+            return "array";
+        }
+        TypeElement typeElement = (TypeElement) types.asElement(boxed);
+        return typeElement != null && hasStringConstructor(typeElement) ? "string" : "object";
+    }
+    
+    private String formatNumber(double value) {
+        return value == Math.rint(value) ? Long.toString((long) value) : Double.toString(value);
+    }
+    
     private String toSchemaClassName(String toolName) {
         // Convert asus_router_get_uptime -> GetUptime + TOOL_SCHEMA_CLASS_NAME
         String[] parts = toolName.split("_");
@@ -338,6 +928,11 @@ public class McpAnnotationProcessor extends AbstractProcessor {
         return className.toString();
     }
     
+    private String decapitalize(String str) {
+        if (str == null || str.isEmpty()) return str;
+        return Character.toLowerCase(str.charAt(0)) + str.substring(1);
+    }
+    
     private String capitalize(String str) {
         if (str == null || str.isEmpty()) return str;
         return str.substring(0, 1).toUpperCase() + str.substring(1).toLowerCase();
@@ -367,13 +962,22 @@ public class McpAnnotationProcessor extends AbstractProcessor {
         List<String> errorCodes;
         TypeElement interfaceElement;
         ExecutableElement executeMethod;
+        ExecutableElement invokedMethod;
+        boolean rawJson;
         List<ParameterMetadata> inputParameters;
         TypeMirror returnType;
     }
     
+    private static class PropertyMetadata {
+        String name;
+        String accessor;
+        TypeMirror type;
+    }
+    
     @SuppressWarnings("unused")
     private static class ParameterMetadata {
         String name;
+        String variableName;
         TypeMirror type;
         boolean required = true;
         String pattern = "";
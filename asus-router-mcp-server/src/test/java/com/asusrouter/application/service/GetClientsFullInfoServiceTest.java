@@ -0,0 +1,73 @@
+package com.asusrouter.application.service;
+
+import com.asusrouter.application.port.out.RouterClientListPort;
+import com.asusrouter.domain.model.ClientFullInfo;
+import com.asusrouter.domain.model.MacAddress;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test for GetClientsFullInfoService.
+ */
+@ExtendWith(MockitoExtension.class)
+class GetClientsFullInfoServiceTest {
+    
+    private static final String CLIENT_LIST = """
+        {"get_clientlist":{
+          "AA:00:00:00:00:01":{"mac":"AA:00:00:00:00:01","name":"one","ip":"192.168.1.11","vendor":"Apple","isWL":1},
+          "AA:00:00:00:00:02":{"mac":"AA:00:00:00:00:02","name":"two","ip":"192.168.1.12","vendor":"Intel","isWL":0},
+          "AA:00:00:00:00:03":{"mac":"AA:00:00:00:00:03","name":"three","ip":"192.168.1.13","vendor":"Apple","isWL":2},
+          "AA:00:00:00:00:04":{"mac":"AA:00:00:00:00:04","name":"four","ip":"192.168.1.14","vendor":"Sonos","isWL":1},
+          "AA:00:00:00:00:05":{"mac":"AA:00:00:00:00:05","name":"five","ip":"192.168.1.15","vendor":"Intel","isWL":0}
+        }}
+        """;
+    
+    @Mock
+    private RouterClientListPort routerClientListPort;
+    
+    private GetClientsFullInfoService service;
+    
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        service = new GetClientsFullInfoService(routerClientListPort, new ObjectMapper());
+        when(routerClientListPort.getClientList(2)).thenReturn(CLIENT_LIST);
+    }
+    
+    @Test
+    void shouldReturnClientsInRequestOrderOncePerMac() {
+        // Given
+        List<MacAddress> macs = List.of(
+            new MacAddress("aa-00-00-00-00-04"),
+            new MacAddress("AA:00:00:00:00:02"),
+            new MacAddress("AA:00:00:00:00:04"),
+            new MacAddress("AA:00:00:00:00:09"),
+            new MacAddress("aa:00:00:00:00:01"));
+        
+        // When
+        List<ClientFullInfo> clients = service.execute(macs, null, null);
+        
+        // Then
+        assertEquals(List.of("four", "two", "one"), clients.stream().map(ClientFullInfo::name).toList());
+    }
+    
+    @Test
+    void shouldReturnAllClientsInRouterOrderWhenNoMacsGiven() {
+        // When
+        List<ClientFullInfo> all = service.execute(List.of(), null, null);
+        List<ClientFullInfo> apple = service.execute(null, "apple", null);
+        
+        // Then
+        assertEquals(List.of("one", "two", "three", "four", "five"), all.stream().map(ClientFullInfo::name).toList());
+        assertEquals(List.of("one", "three"), apple.stream().map(ClientFullInfo::name).toList());
+    }
+}
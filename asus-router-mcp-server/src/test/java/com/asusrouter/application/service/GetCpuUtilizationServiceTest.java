@@ -0,0 +1,119 @@
+package com.asusrouter.application.service;
+
+import com.asusrouter.application.port.out.RouterCpuPort;
+import com.asusrouter.domain.model.CpuUtilization;
+import com.asusrouter.domain.model.Timestamped;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test for GetCpuUtilizationService.
+ */
+@ExtendWith(MockitoExtension.class)
+class GetCpuUtilizationServiceTest {
+    
+    @Mock
+    private RouterCpuPort routerCpuPort;
+    
+    private MetricHistoryStore metricHistory;
+    private GetCpuUtilizationService service;
+    
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        metricHistory = new MetricHistoryStore();
+        service = new GetCpuUtilizationService(routerCpuPort, metricHistory);
+    }
+    
+    @Test
+    void shouldComputeIntervalUtilizationForFourCores() {
+        // Given
+        when(routerCpuPort.getCpuUsageSnapshot())
+            .thenReturn(Timestamped.fresh("1000;500;1000;100;1000;0;1000;1000"))
+            .thenReturn(Timestamped.fresh("2000;600;2000;600;1100;50;2000;1000"));
+        
+        // When
+        CpuUtilization first = service.execute();
+        CpuUtilization second = service.execute();
+        
+        // Then
+        assertTrue(first.sinceBoot());
+        assertEquals(4, first.cores().size());
+        assertEquals(50.0, first.cores().get(0).percent(), 0.001);
+        
+        assertFalse(second.sinceBoot());
+        assertEquals(10.0, second.cores().get(0).percent(), 0.001);
+        assertEquals(50.0, second.cores().get(1).percent(), 0.001);
+        assertEquals(50.0, second.cores().get(2).percent(), 0.001);
+        assertEquals(100, second.cores().get(2).totalTicks());
+        assertEquals(0.0, second.cores().get(3).percent(), 0.001);
+        assertEquals(27.5, second.averagePercent(), 0.001);
+        assertEquals(1, metricHistory.series(MetricHistoryStore.CPU_AVERAGE).size());
+        assertEquals(50.0, metricHistory.series(MetricHistoryStore.cpuCore(2)).latest(), 0.001);
+    }
+    
+    @Test
+    void shouldKeepLastResultWhenCountersDidNotMove() {
+        // Given
+        when(routerCpuPort.getCpuUsageSnapshot())
+            .thenReturn(Timestamped.fresh("1000;500;1000;100"))
+            .thenReturn(Timestamped.fresh("2000;700;2000;300"))
+            .thenReturn(Timestamped.fresh("2000;700;2000;300"));
+        
+        // When
+        service.execute();
+        CpuUtilization moved = service.execute();
+        CpuUtilization cached = service.execute();
+        
+        // Then
+        assertSame(moved, cached);
+        assertEquals(20.0, cached.averagePercent(), 0.001);
+    }
+    
+    @Test
+    void shouldStartOverAfterRouterReboot() {
+        // Given
+        when(routerCpuPort.getCpuUsageSnapshot())
+            .thenReturn(Timestamped.fresh("9000;900;9000;900"))
+            .thenReturn(Timestamped.fresh("400;100;400;300"));
+        
+        // When
+        service.execute();
+        CpuUtilization afterReboot = service.execute();
+        
+        // Then
+        assertTrue(afterReboot.sinceBoot());
+        assertEquals(50.0, afterReboot.averagePercent(), 0.001);
+    }
+    
+    @Test
+    void shouldTimeIntervalByWhenCountersWereRead() {
+        // Given: the first reading is a polled snapshot already 2 s old
+        when(routerCpuPort.getCpuUsageSnapshot())
+            .thenReturn(new Timestamped<>("1000;500;1000;100", 2_000, false))
+            .thenReturn(Timestamped.fresh("2000;700;2000;300"));
+        
+        // When
+        service.execute();
+        CpuUtilization interval = service.execute();
+        
+        // Then
+        assertTrue(interval.intervalMillis() >= 2_000);
+        assertTrue(interval.intervalMillis() < 2_500);
+    }
+    
+    @Test
+    void shouldRejectIncompleteCounterPairs() {
+        // Given
+        when(routerCpuPort.getCpuUsageSnapshot()).thenReturn(Timestamped.fresh("1000;500;1000"));
+        
+        // When/Then
+        assertThrows(IllegalStateException.class, () -> service.execute());
+    }
+}
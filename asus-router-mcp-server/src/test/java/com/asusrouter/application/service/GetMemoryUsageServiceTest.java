@@ -0,0 +1,52 @@
+package com.asusrouter.application.service;
+
+import com.asusrouter.application.port.out.RouterMemoryPort;
+import com.asusrouter.domain.model.MemoryUsage;
+import com.asusrouter.domain.model.Timestamped;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test for GetMemoryUsageService.
+ */
+@ExtendWith(MockitoExtension.class)
+class GetMemoryUsageServiceTest {
+    
+    @Mock
+    private RouterMemoryPort routerMemoryPort;
+    
+    private MetricHistoryStore metricHistory;
+    private GetMemoryUsageService service;
+    
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        metricHistory = new MetricHistoryStore();
+        service = new GetMemoryUsageService(routerMemoryPort, metricHistory);
+    }
+    
+    @Test
+    void shouldRecordSampleAtCaptureTimeOncePerSnapshot() {
+        // Given: the same polled snapshot, captured 1.5 s ago, is served twice
+        long capturedAt = System.currentTimeMillis() - 1_500;
+        when(routerMemoryPort.getMemoryUsageSnapshot()).thenAnswer(invocation ->
+            new Timestamped<>("262144;107320;154824", System.currentTimeMillis() - capturedAt, false));
+        
+        // When
+        MemoryUsage first = service.execute();
+        service.execute();
+        
+        // Then
+        assertEquals(154824, first.getUsedKB());
+        MetricSeries usedKb = metricHistory.series(MetricHistoryStore.MEMORY_USED_KB);
+        assertEquals(1, usedKb.size());
+        long recordedAt = usedKb.range(0, Long.MAX_VALUE).timestamps()[0];
+        assertTrue(Math.abs(recordedAt - capturedAt) < ReadingTracker.SAME_READING_MILLIS);
+    }
+}
@@ -0,0 +1,52 @@
+package com.asusrouter.application.service;
+
+import com.asusrouter.application.port.out.RouterWanLinkPort;
+import com.asusrouter.domain.model.IpAddress;
+import com.asusrouter.domain.model.WanStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test for GetWanStatusService.
+ */
+@ExtendWith(MockitoExtension.class)
+class GetWanStatusServiceTest {
+    
+    @Mock
+    private RouterWanLinkPort routerWanLinkPort;
+    
+    private GetWanStatusService service;
+    
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        service = new GetWanStatusService(routerWanLinkPort, new ObjectMapper());
+    }
+    
+    @Test
+    void shouldParseDualStackWanStatus() {
+        // Given: a dual-stack WAN with an IPv6 gateway and mixed DNS servers
+        when(routerWanLinkPort.getWanStatus()).thenReturn("""
+            {"status": "connected", "statusCode": 1, "wanIP": "203.0.113.7",
+             "gateway": "fe80::1", "netmask": "255.255.255.0",
+             "dns": ["8.8.8.8", "2001:4860:4860::8888"]}
+            """);
+        
+        // When
+        WanStatus status = service.execute();
+        
+        // Then
+        assertNull(status.ip().ipv6());
+        assertNull(status.gateway().ipv4());
+        assertEquals(List.of(new IpAddress("8.8.8.8"), new IpAddress("2001:4860:4860:0:0:0:0:8888")), status.dns());
+    }
+}
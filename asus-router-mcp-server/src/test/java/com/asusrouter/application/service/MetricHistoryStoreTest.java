@@ -0,0 +1,99 @@
+package com.asusrouter.application.service;
+
+import com.asusrouter.application.port.out.MetricJournalPort;
+import com.asusrouter.domain.model.MetricBucket;
+import com.asusrouter.domain.model.MetricHistory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for MetricHistoryStore.
+ */
+class MetricHistoryStoreTest {
+    
+    private static final long T0 = 1_721_649_600_000L;  // on an hour boundary
+    
+    private final MetricHistoryStore store = new MetricHistoryStore();
+    
+    @Test
+    void shouldReturnRawSamplesForShortRange() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            store.record("cpu.average", T0 + i * 1000L, i);
+        }
+        
+        // When
+        MetricHistory history = store.query("cpu.average", T0, T0 + 5_000, T0 + 10_000);
+        
+        // Then
+        assertEquals(1_000, history.resolutionMillis());
+        assertEquals(5, history.buckets().size());
+        assertEquals(4.0, history.buckets().get(4).last());
+    }
+    
+    @Test
+    void shouldRollUpIntoMinuteAndHourBuckets() {
+        // Given: three hours of one sample per second, value = minute of the hour
+        for (long t = 0; t < 3 * 3_600; t++) {
+            store.record("cpu.average", T0 + t * 1000, (t / 60) % 60);
+        }
+        long now = T0 + 3 * 3_600_000L;
+        
+        // When
+        MetricHistory day = store.query("cpu.average", now - 86_400_000L, now, now);
+        MetricHistory week = store.query("cpu.average", now - 7 * 86_400_000L, now, now);
+        
+        // Then
+        assertEquals(60_000, day.resolutionMillis());
+        assertEquals(180, day.buckets().size());
+        MetricBucket minute = day.buckets().get(61);
+        assertEquals(T0 + 61 * 60_000L, minute.start());
+        assertEquals(60, minute.count());
+        assertEquals(1.0, minute.avg());
+        
+        assertEquals(3_600_000, week.resolutionMillis());
+        assertEquals(3, week.buckets().size());
+        MetricBucket hour = week.buckets().get(0);
+        assertEquals(0.0, hour.min());
+        assertEquals(59.0, hour.max());
+        assertEquals(29.5, hour.avg(), 0.0001);
+        assertEquals(59.0, hour.last());
+        assertEquals(3_600, hour.count());
+    }
+    
+    @Test
+    void shouldReturnNullForUnknownMetric() {
+        assertNull(store.query("cpu.core9", T0, T0 + 1_000, T0 + 1_000));
+    }
+    
+    @Test
+    void shouldRestoreJournaledSamplesWithoutJournalingThemAgain() {
+        // Given
+        List<Double> appended = new ArrayList<>();
+        MetricJournalPort journal = new MetricJournalPort() {
+            @Override
+            public void append(String metric, long timeMillis, double value) {
+                appended.add(value);
+            }
+            
+            @Override
+            public void replay(SampleConsumer consumer) {
+                consumer.accept("cpu.average", T0, 10.0);
+                consumer.accept("cpu.average", T0 + 1_000, 20.0);
+            }
+        };
+        
+        // When
+        MetricHistoryStore restored = new MetricHistoryStore(MetricHistoryStore.DEFAULT_CAPACITY, journal);
+        restored.record("cpu.average", T0 + 500, 15.0);
+        restored.record("cpu.average", T0 + 2_000, 30.0);
+        
+        // Then
+        assertEquals(3, restored.series("cpu.average").size());
+        assertEquals(List.of(30.0), appended);
+    }
+}
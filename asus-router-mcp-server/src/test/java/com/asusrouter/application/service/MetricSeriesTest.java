@@ -0,0 +1,80 @@
+package com.asusrouter.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for MetricSeries.
+ */
+class MetricSeriesTest {
+    
+    @Test
+    void shouldReturnSamplesInTimeRange() {
+        // Given
+        MetricSeries series = new MetricSeries(10);
+        for (int i = 0; i < 5; i++) {
+            series.append(1000 + i * 1000L, i * 1.5);
+        }
+        
+        // When
+        MetricSeries.Samples samples = series.range(2000, 4000);
+        
+        // Then
+        assertArrayEquals(new long[] {2000, 3000}, samples.timestamps());
+        assertArrayEquals(new double[] {1.5, 3.0}, samples.values());
+        assertEquals(0, series.range(6000, 9000).size());
+        assertEquals(5, series.range(Long.MIN_VALUE, Long.MAX_VALUE).size());
+    }
+    
+    @Test
+    void shouldOverwriteOldestSampleWhenFull() {
+        // Given
+        MetricSeries series = new MetricSeries(3);
+        
+        // When
+        for (int i = 1; i <= 5; i++) {
+            series.append(i, i);
+        }
+        
+        // Then
+        assertEquals(3, series.size());
+        assertArrayEquals(new long[] {3, 4, 5}, series.range(0, 10).timestamps());
+        assertArrayEquals(new long[] {4}, series.range(4, 5).timestamps());
+        assertEquals(5.0, series.latest());
+    }
+    
+    @Test
+    void shouldGrowPastInitialLengthThenWrapAtCapacity() {
+        // Given
+        int capacity = MetricSeries.INITIAL_LENGTH * 2 + 10;
+        MetricSeries series = new MetricSeries(capacity);
+        
+        // When
+        for (int i = 0; i < capacity + 5; i++) {
+            series.append(i, i);
+        }
+        
+        // Then
+        long[] timestamps = series.range(0, Long.MAX_VALUE).timestamps();
+        assertEquals(capacity, series.capacity());
+        assertEquals(capacity, timestamps.length);
+        assertEquals(5, timestamps[0]);
+        assertEquals(capacity + 4, timestamps[capacity - 1]);
+    }
+    
+    @Test
+    void shouldDropSamplesOlderThanLatest() {
+        // Given
+        MetricSeries series = new MetricSeries(3);
+        series.append(2000, 1.0);
+        
+        // When
+        boolean stored = series.append(1000, 2.0);
+        
+        // Then
+        assertFalse(stored);
+        assertEquals(1, series.size());
+        assertEquals(1.0, series.latest());
+    }
+}
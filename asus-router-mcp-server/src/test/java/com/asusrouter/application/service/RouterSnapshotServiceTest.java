@@ -0,0 +1,89 @@
+package com.asusrouter.application.service;
+
+import com.asusrouter.application.port.in.GetCpuUsageUseCase;
+import com.asusrouter.application.port.in.GetDhcpLeasesUseCase;
+import com.asusrouter.application.port.in.GetMemoryUsageUseCase;
+import com.asusrouter.application.port.in.GetOnlineClientsUseCase;
+import com.asusrouter.application.port.in.GetUptimeUseCase;
+import com.asusrouter.application.port.in.GetWanStatusUseCase;
+import com.asusrouter.domain.exception.RouterCommunicationException;
+import com.asusrouter.domain.model.MemoryUsage;
+import com.asusrouter.domain.model.RouterSnapshot;
+import com.asusrouter.domain.model.Uptime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test for RouterSnapshotService.
+ */
+@ExtendWith(MockitoExtension.class)
+class RouterSnapshotServiceTest {
+    
+    @Mock
+    private GetUptimeUseCase getUptimeUseCase;
+    @Mock
+    private GetMemoryUsageUseCase getMemoryUsageUseCase;
+    @Mock
+    private GetCpuUsageUseCase getCpuUsageUseCase;
+    @Mock
+    private GetWanStatusUseCase getWanStatusUseCase;
+    @Mock
+    private GetOnlineClientsUseCase getOnlineClientsUseCase;
+    @Mock
+    private GetDhcpLeasesUseCase getDhcpLeasesUseCase;
+    
+    private RouterSnapshotService service;
+    
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        service = new RouterSnapshotService(getUptimeUseCase, getMemoryUsageUseCase, getCpuUsageUseCase,
+            getWanStatusUseCase, getOnlineClientsUseCase, getDhcpLeasesUseCase);
+    }
+    
+    @Test
+    void shouldCaptureAllSectionsAndRecordFailures() {
+        // Given
+        Uptime uptime = new Uptime("Thu, 22 Jul 2021 14:32:38 +0200", "375001");
+        when(getUptimeUseCase.execute()).thenReturn(uptime);
+        when(getMemoryUsageUseCase.execute()).thenReturn(new MemoryUsage("262144", "107320", "154824"));
+        when(getCpuUsageUseCase.execute()).thenThrow(new RouterCommunicationException("cpu_usage timed out"));
+        when(getOnlineClientsUseCase.execute()).thenReturn(List.of());
+        when(getDhcpLeasesUseCase.execute()).thenReturn(List.of());
+        
+        // When
+        RouterSnapshot snapshot = service.capture();
+        
+        // Then
+        assertSame(snapshot, service.current());
+        assertSame(uptime, snapshot.uptime());
+        assertEquals("262144", snapshot.memory().memTotal());
+        assertNull(snapshot.cpu());
+        assertEquals("cpu_usage timed out", snapshot.errorOf(RouterSnapshot.CPU));
+        assertNull(snapshot.wan());
+        assertNull(snapshot.errorOf(RouterSnapshot.UPTIME));
+        assertTrue(snapshot.clients().isEmpty());
+    }
+    
+    @Test
+    void shouldShareFreshSnapshotBetweenReaders() {
+        // Given
+        when(getUptimeUseCase.execute()).thenReturn(new Uptime("Thu, 22 Jul 2021 14:32:38 +0200", "375001"));
+        
+        // When
+        RouterSnapshot first = service.snapshot();
+        RouterSnapshot second = service.snapshot();
+        
+        // Then
+        assertSame(first, second);
+        verify(getUptimeUseCase, times(1)).execute();
+    }
+}
@@ -0,0 +1,94 @@
+package com.asusrouter.application.service;
+
+import com.asusrouter.domain.model.TrafficSpeed;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for TrafficRateEngine.
+ */
+class TrafficRateEngineTest {
+    
+    private static final long SECOND = 1_000_000_000L;
+    
+    private final TrafficRateEngine engine = new TrafficRateEngine();
+    
+    @Test
+    void shouldComputeMegabitsPerSecondFromLatestTwoSamples() {
+        // Given
+        engine.record(1_000_000, 500_000, 10 * SECOND);
+        
+        // When
+        TrafficSpeed speed = engine.record(3_500_000, 750_000, 12 * SECOND);
+        
+        // Then
+        assertEquals(10.0, speed.recv(), 0.0001);  // 2.5 MB in 2 s
+        assertEquals(1.0, speed.sent(), 0.0001);   // 250 KB in 2 s
+        assertSame(speed, engine.currentSpeed());
+    }
+    
+    @Test
+    void shouldReportZeroUntilSecondSample() {
+        // When
+        TrafficSpeed speed = engine.record(1_000_000, 500_000, SECOND);
+        
+        // Then
+        assertEquals(0.0, speed.recv());
+        assertEquals(0.0, speed.sent());
+    }
+    
+    @Test
+    void shouldHandle32BitCounterWraparound() {
+        // Given
+        long nearMax = (1L << 32) - 1_000_000;
+        engine.record(nearMax, 0, SECOND);
+        
+        // When
+        TrafficSpeed speed = engine.record(1_500_000, 0, 2 * SECOND);
+        
+        // Then
+        assertEquals(20.0, speed.recv(), 0.0001);  // 2.5 MB across the wrap in 1 s
+    }
+    
+    @Test
+    void shouldRestartAfterRouterReboot() {
+        // Given
+        engine.record(50_000_000_000L, 9_000_000_000L, SECOND);
+        
+        // When
+        TrafficSpeed afterReboot = engine.record(1_000, 2_000, 2 * SECOND);
+        TrafficSpeed next = engine.record(1_251_000, 2_000, 3 * SECOND);
+        
+        // Then
+        assertEquals(0.0, afterReboot.recv());
+        assertEquals(10.0, next.recv(), 0.0001);
+    }
+    
+    @Test
+    void shouldRestartAfterRebootWithCountersBelow32Bits() {
+        // Given: counters under 4 GiB and a reboot that takes 90 s
+        engine.record(1_000_000_000L, 200_000_000L, SECOND);
+        
+        // When
+        TrafficSpeed afterReboot = engine.record(1_000_000, 300_000, 91 * SECOND);
+        TrafficSpeed next = engine.record(2_250_000, 300_000, 92 * SECOND);
+        
+        // Then
+        assertEquals(0.0, afterReboot.recv());
+        assertEquals(0.0, afterReboot.sent());
+        assertEquals(10.0, next.recv(), 0.0001);
+    }
+    
+    @Test
+    void shouldTreatSingleCounterDecreaseAsWrapAfterLongGap() {
+        // Given
+        engine.record((1L << 32) - 1_000_000, 5_000_000, SECOND);
+        
+        // When
+        TrafficSpeed speed = engine.record(11_500_000, 5_000_000, 11 * SECOND);
+        
+        // Then
+        assertEquals(10.0, speed.recv(), 0.0001);  // 12.5 MB across the wrap in 10 s
+    }
+}
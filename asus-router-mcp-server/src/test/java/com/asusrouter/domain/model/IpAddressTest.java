@@ -68,4 +68,79 @@ class IpAddressTest {
         assertThrows(IllegalArgumentException.class, () -> 
             new IpAddress(""));
     }
+    
+    @Test
+    void shouldConvertToInt() {
+        assertEquals(0xC0A80101, new IpAddress("192.168.1.1").toInt());
+        assertEquals(-1, new IpAddress("255.255.255.255").toInt());
+        assertEquals(new IpAddress("10.0.0.1"), new IpAddress("010.000.000.001"));
+        assertEquals("10.0.0.1", new IpAddress("010.000.000.001").compact().toString());
+    }
+    
+    @Test
+    void shouldCheckSubnetMembership() {
+        IpAddress network = new IpAddress("192.168.1.0");
+        Netmask mask = new Netmask("255.255.255.0");
+        
+        assertTrue(new IpAddress("192.168.1.42").isInSubnet(network, mask));
+        assertFalse(new IpAddress("192.168.2.42").isInSubnet(network, mask));
+        assertTrue(new IpAddress("8.8.8.8").isInSubnet(network, new Netmask("0.0.0.0")));
+        assertEquals(24, mask.prefixLength());
+        assertEquals(0, new Netmask("0.0.0.0").prefixLength());
+        assertEquals(-1, new Netmask("255.0.255.0").prefixLength());
+    }
+    
+    @Test
+    void shouldAcceptIpv6Address() {
+        IpAddress ip = new IpAddress("2001:DB8::1");
+        
+        assertEquals("2001:DB8::1", ip.value());
+        assertNull(ip.ipv4());
+        assertEquals(Ipv6.parse("2001:db8:0:0:0:0:0:1"), ip.ipv6());
+        assertEquals(new IpAddress("2001:db8:0:0:0:0:0:1"), ip);
+        assertNotEquals(new IpAddress("::ffff:192.168.1.1"), new IpAddress("192.168.1.1"));
+        assertFalse(ip.isInSubnet(new IpAddress("0.0.0.0"), new Netmask("0.0.0.0")));
+        assertThrows(IllegalStateException.class, ip::toInt);
+        assertThrows(IllegalArgumentException.class, () -> new IpAddress("2001:db8::1::2"));
+    }
+    
+    @Test
+    void shouldKeepParsedFormAfterConstruction() {
+        IpAddress ip = new IpAddress("192.168.1.1");
+        
+        assertNull(ip.ipv6());
+        assertSame(ip.compact(), ip.compact());
+        assertEquals(0xFFFFFF00, new Netmask("255.255.255.0").bits());
+    }
+    
+    @Test
+    void shouldParseIpv6() {
+        Ipv6 mapped = Ipv6.parse("::ffff:192.168.1.1");
+        assertEquals(0L, mapped.high());
+        assertEquals(0xFFFFC0A80101L, mapped.low());
+        assertEquals("2001:db8::1", Ipv6.parse("2001:0DB8:0:0:0:0:0:1").toString());
+        assertEquals("::", Ipv6.parse("::").toString());
+        assertEquals("1::", Ipv6.parse("1::").toString());
+        assertEquals("2001:db8:0:1:1:1:1:1", Ipv6.parse("2001:db8:0:1:1:1:1:1").toString());
+        assertEquals("fe80::", Ipv6.parse("fe80:0:0:0::").toString());
+        
+        assertThrows(IllegalArgumentException.class, () -> Ipv6.parse("1::2::3"));
+        assertThrows(IllegalArgumentException.class, () -> Ipv6.parse("1:2:3:4:5:6:7"));
+        assertThrows(IllegalArgumentException.class, () -> Ipv6.parse("1:2:3:4:5:6:7:8:9"));
+        assertThrows(IllegalArgumentException.class, () -> Ipv6.parse("12345::"));
+        assertThrows(IllegalArgumentException.class, () -> Ipv6.parse(":1"));
+        assertThrows(IllegalArgumentException.class, () -> Ipv6.parse("1:"));
+    }
+    
+    @Test
+    void shouldCheckIpv6PrefixMembership() {
+        Ipv6 network = Ipv6.parse("2001:db8:abcd:12::");
+        
+        assertTrue(Ipv6.parse("2001:db8:abcd:12::5").isInPrefix(network, 64));
+        assertFalse(Ipv6.parse("2001:db8:abcd:13::5").isInPrefix(network, 64));
+        assertTrue(Ipv6.parse("2001:db8:ffff::").isInPrefix(network, 32));
+        assertTrue(Ipv6.parse("2001:db8:abcd:12::").isInPrefix(network, 128));
+        assertTrue(Ipv6.parse("2001:db8:abcd:12::1").isInPrefix(network, 127));
+        assertFalse(Ipv6.parse("2001:db8:abcd:12::2").isInPrefix(network, 127));
+    }
 }
@@ -71,4 +71,55 @@ class MacAddressTest {
         assertThrows(IllegalArgumentException.class, () -> 
             new MacAddress(""));
     }
+    
+    @Test
+    void shouldConvertToSameLongRegardlessOfFormat() {
+        long expected = 0xAABBCCDDEEFFL;
+        assertEquals(expected, new MacAddress("AA:BB:CC:DD:EE:FF").toLong());
+        assertEquals(expected, new MacAddress("aa-bb-cc-dd-ee-ff").toLong());
+        assertEquals(expected, MacAddress.parseKey("Aa:Bb:Cc:Dd:Ee:Ff"));
+    }
+    
+    @Test
+    void shouldReturnMinusOneForInvalidKey() {
+        assertEquals(-1, MacAddress.parseKey(null));
+        assertEquals(-1, MacAddress.parseKey("AA:BB:CC:DD:EE"));
+        assertEquals(-1, MacAddress.parseKey("ZZ:BB:CC:DD:EE:FF"));
+        assertEquals(-1, MacAddress.parseKey("AA.BB.CC.DD.EE.FF"));
+    }
+    
+    @Test
+    void shouldCompareByNumericValue() {
+        MacAddress colons = new MacAddress("aa:bb:cc:dd:ee:ff");
+        MacAddress hyphens = new MacAddress("AA-BB-CC-DD-EE-FF");
+        
+        assertEquals(colons, hyphens);
+        assertEquals(colons.hashCode(), hyphens.hashCode());
+        assertNotEquals(colons, new MacAddress("AA:BB:CC:DD:EE:00"));
+    }
+    
+    @Test
+    void shouldReturnCanonicalTextWithoutCopying() {
+        MacAddress mac = new MacAddress("AA:BB:CC:DD:EE:FF");
+        assertSame(mac.value(), mac.normalized());
+    }
+    
+    @Test
+    void shouldKeepParsedFormsAfterConstruction() {
+        MacAddress mac = new MacAddress("aa-bb-cc-dd-ee-ff");
+        
+        assertSame(mac.normalized(), mac.normalized());
+        assertSame(mac.compact(), mac.compact());
+        assertEquals(new Mac48(0xAABBCCDDEEFFL), mac.compact());
+    }
+    
+    @Test
+    void shouldRoundTripCompactForm() {
+        Mac48 compact = new MacAddress("0a-1b-2c-3d-4e-5f").compact();
+        assertEquals(0x0A1B2C3D4E5FL, compact.bits());
+        assertEquals("0A:1B:2C:3D:4E:5F", compact.toString());
+        assertEquals(compact, Mac48.parse("0A:1B:2C:3D:4E:5F"));
+        assertThrows(IllegalArgumentException.class, () -> Mac48.parse("0A:1B:2C:3D:4E"));
+        assertThrows(IllegalArgumentException.class, () -> new Mac48(1L << 48));
+    }
 }
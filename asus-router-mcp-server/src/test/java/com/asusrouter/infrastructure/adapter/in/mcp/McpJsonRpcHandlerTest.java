@@ -6,6 +6,8 @@ import com.asusrouter.domain.model.Uptime;
 import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcError;
 import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcRequest;
 import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcResponse;
+import com.asusrouter.infrastructure.adapters.in.mcp.generated.McpToolDispatcher;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -36,13 +42,15 @@ class McpJsonRpcHandlerTest {
         objectMapper = new ObjectMapper();
         
         // Create handler with only the mocked use cases we need for tests
-        handler = new McpJsonRpcHandler(
+        McpToolDispatcher toolDispatcher = new McpToolDispatcher(
             objectMapper,
+            null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
             getUptimeUseCase,
-            null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+            null, null,
             isAliveUseCase,
             null
         );
+        handler = new McpJsonRpcHandler(objectMapper, toolDispatcher, new McpToolCatalog(objectMapper));
     }
     
     @Test
@@ -131,4 +139,118 @@ class McpJsonRpcHandlerTest {
         assertNull(response.getError());
         assertNotNull(response.getResult());
     }
+    
+    @Test
+    void shouldListToolsWithInputSchemas() throws Exception {
+        // Given
+        JsonRpcRequest request = new JsonRpcRequest("2.0", "tools/list", null, 7);
+        
+        // When
+        JsonRpcResponse response = handler.handleRequest(request);
+        JsonNode tools = objectMapper.readTree(objectMapper.writeValueAsString(response)).path("result").path("tools");
+        
+        // Then
+        assertEquals(McpToolDispatcher.TOOL_NAMES.size(), tools.size());
+        for (JsonNode tool : tools) {
+            assertTrue(McpToolDispatcher.TOOL_NAMES.contains(tool.path("name").asText()));
+            assertEquals("object", tool.path("inputSchema").path("type").asText());
+        }
+    }
+    
+    @Test
+    void shouldRejectMissingRequiredParamFromDecodedRequest() throws Exception {
+        // Given - params decoded from JSON stay as tokens
+        JsonRpcRequest request = objectMapper.readValue(
+            "{\"jsonrpc\":\"2.0\",\"method\":\"asus_router_get_client_full_info\",\"params\":{\"other\":[1,{\"a\":2}]},\"id\":6}",
+            JsonRpcRequest.class);
+        
+        // When
+        JsonRpcResponse response = handler.handleRequest(request);
+        
+        // Then
+        assertEquals(6, response.getId());
+        assertNotNull(response.getError());
+        assertEquals(JsonRpcError.INVALID_PARAMS, response.getError().getCode());
+        assertEquals("Missing required parameter: mac", response.getError().getData());
+    }
+    
+    @Test
+    void shouldHandleBatchAndSkipNotifications() throws Exception {
+        // Given
+        Uptime uptime = new Uptime("Thu, 22 Jul 2021 14:32:38 +0200", "375001");
+        when(getUptimeUseCase.execute()).thenReturn(uptime);
+        when(isAliveUseCase.execute()).thenReturn(true);
+        
+        String batch = """
+            [
+              {"jsonrpc":"2.0","method":"asus_router_get_uptime","id":1},
+              {"jsonrpc":"2.0","method":"asus_router_is_alive"},
+              {"jsonrpc":"2.0","method":"asus_router_is_alive","id":2},
+              42
+            ]
+            """;
+        
+        // When
+        List<JsonRpcResponse> responses = handler.handleBatch(objectMapper.readTree(batch), new Semaphore(16));
+        
+        // Then
+        assertEquals(3, responses.size());
+        assertEquals(1, responses.get(0).getId());
+        assertEquals(uptime, responses.get(0).getResult());
+        assertEquals(2, responses.get(1).getId());
+        assertEquals(true, responses.get(1).getResult());
+        assertNull(responses.get(2).getId());
+        assertEquals(JsonRpcError.INVALID_REQUEST, responses.get(2).getError().getCode());
+        verify(isAliveUseCase, times(2)).execute();
+    }
+    
+    @Test
+    void shouldKeepBatchWithinSharedRequestLimit() throws Exception {
+        // Given
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(isAliveUseCase.execute()).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return true;
+        });
+        StringBuilder batch = new StringBuilder("[");
+        for (int id = 1; id <= 20; id++) {
+            batch.append(id == 1 ? "" : ",")
+                .append("{\"jsonrpc\":\"2.0\",\"method\":\"asus_router_is_alive\",\"id\":").append(id).append('}');
+        }
+        batch.append(']');
+        Semaphore permits = new Semaphore(3);
+        
+        // When
+        List<JsonRpcResponse> responses = handler.handleBatch(objectMapper.readTree(batch.toString()), permits);
+        
+        // Then
+        assertEquals(20, responses.size());
+        assertEquals(20, responses.get(19).getId());
+        assertTrue(maxInFlight.get() <= 3, "max in flight was " + maxInFlight.get());
+        assertEquals(3, permits.availablePermits());
+    }
+    
+    @Test
+    void shouldAnswerMalformedBatchEntryWithoutIdAsInvalidRequest() throws Exception {
+        // Given
+        when(isAliveUseCase.execute()).thenReturn(true);
+        String batch = """
+            [
+              {"jsonrpc":"2.0","params":{}},
+              {"jsonrpc":"2.0","method":"asus_router_is_alive"}
+            ]
+            """;
+        
+        // When
+        List<JsonRpcResponse> responses = handler.handleBatch(objectMapper.readTree(batch), new Semaphore(16));
+        
+        // Then
+        assertEquals(1, responses.size());
+        assertNull(responses.get(0).getId());
+        assertEquals(JsonRpcError.INVALID_REQUEST, responses.get(0).getError().getCode());
+        verify(isAliveUseCase).execute();
+    }
 }
@@ -0,0 +1,120 @@
+package com.asusrouter.infrastructure.adapter.in.mcp;
+
+import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcError;
+import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for McpResponseWriter.
+ */
+class McpResponseWriterTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    void shouldWriteOneLinePerResponseAndFlushPerBurst() throws Exception {
+        // Given - stdout stalls on the first flush until the rest of the burst is queued
+        AtomicInteger flushes = new AtomicInteger();
+        CountDownLatch firstFlush = new CountDownLatch(1);
+        CountDownLatch burstQueued = new CountDownLatch(1);
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                if (flushes.incrementAndGet() == 1) {
+                    firstFlush.countDown();
+                    awaitQuietly(burstQueued);
+                }
+            }
+        };
+        
+        // When
+        try (McpResponseWriter responses = new McpResponseWriter(objectMapper, stdout)) {
+            responses.send(JsonRpcResponse.success("ok", 1));
+            assertTrue(firstFlush.await(5, TimeUnit.SECONDS));
+            for (int id = 2; id <= 50; id++) {
+                responses.send(JsonRpcResponse.success("ok", id));
+            }
+            responses.send(List.of(JsonRpcResponse.success("a", 51), JsonRpcResponse.success("b", 52)));
+            burstQueued.countDown();
+        }
+        
+        // Then
+        String[] lines = stdout.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(51, lines.length);
+        assertTrue(lines[1].startsWith("{"));
+        assertEquals(1, objectMapper.readTree(lines[0]).get("id").asInt());
+        assertTrue(objectMapper.readTree(lines[50]).isArray());
+        assertEquals(2, flushes.get());
+    }
+    
+    @Test
+    void shouldReplyWithInternalErrorWhenResultCannotBeSerialized() throws Exception {
+        // Given
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        
+        // When
+        try (McpResponseWriter responses = new McpResponseWriter(objectMapper, stdout)) {
+            responses.send(JsonRpcResponse.success("before", 1));
+            responses.send(JsonRpcResponse.success(new FailingResult(), 2));
+            responses.send(List.of(JsonRpcResponse.success("ok", 3), JsonRpcResponse.success(new FailingResult(), 4)));
+            responses.send(JsonRpcResponse.success("after", 5));
+        }
+        
+        // Then
+        String[] lines = stdout.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("before", objectMapper.readTree(lines[0]).get("result").asText());
+        JsonNode failed = objectMapper.readTree(lines[1]);
+        assertEquals(2, failed.get("id").asInt());
+        assertEquals(JsonRpcError.INTERNAL_ERROR, failed.get("error").get("code").asInt());
+        JsonNode batch = objectMapper.readTree(lines[2]);
+        assertEquals(2, batch.size());
+        assertEquals(3, batch.get(0).get("id").asInt());
+        assertEquals(4, batch.get(1).get("id").asInt());
+        assertEquals(JsonRpcError.INTERNAL_ERROR, batch.get(1).get("error").get("code").asInt());
+        assertEquals("after", objectMapper.readTree(lines[3]).get("result").asText());
+    }
+    
+    /**
+     * Result whose serializer fails after writing part of its output.
+     */
+    private static final class FailingResult implements JsonSerializable {
+        
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("partial", "value");
+            throw new IllegalStateException("serializer failed");
+        }
+        
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+                throws IOException {
+            serialize(gen, serializers);
+        }
+    }
+    
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
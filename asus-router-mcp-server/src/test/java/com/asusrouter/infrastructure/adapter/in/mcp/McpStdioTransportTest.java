@@ -0,0 +1,133 @@
+package com.asusrouter.infrastructure.adapter.in.mcp;
+
+import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcError;
+import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcRequest;
+import com.asusrouter.infrastructure.adapter.in.mcp.protocol.JsonRpcResponse;
+import com.asusrouter.infrastructure.config.McpServerProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for McpStdioTransport.
+ */
+class McpStdioTransportTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    void shouldWriteFastResponseBeforeSlowOneThatArrivedFirst() throws Exception {
+        // Given - the slow request only finishes after the fast one was handled
+        CountDownLatch fastHandled = new CountDownLatch(1);
+        McpJsonRpcHandler handler = new StubHandler(request -> {
+            if ("slow".equals(request.getMethod())) {
+                assertTrue(fastHandled.await(5, TimeUnit.SECONDS));
+                Thread.sleep(50);
+            } else {
+                fastHandled.countDown();
+            }
+        });
+        String input = request(1, "slow") + request(2, "fast");
+        
+        // When
+        String[] lines = serve(handler, 4, input);
+        
+        // Then
+        assertEquals(2, lines.length);
+        assertEquals("fast", objectMapper.readTree(lines[0]).get("result").asText());
+        assertEquals(2, objectMapper.readTree(lines[0]).get("id").asInt());
+        assertEquals("slow", objectMapper.readTree(lines[1]).get("result").asText());
+        assertEquals(1, objectMapper.readTree(lines[1]).get("id").asInt());
+    }
+    
+    @Test
+    void shouldNotRunMoreThanMaxConcurrentRequestsAtOnce() throws Exception {
+        // Given
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        McpJsonRpcHandler handler = new StubHandler(request -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+        });
+        StringBuilder input = new StringBuilder();
+        for (int id = 1; id <= 20; id++) {
+            input.append(request(id, "work"));
+        }
+        
+        // When
+        String[] lines = serve(handler, 3, input.toString());
+        
+        // Then
+        assertEquals(20, lines.length);
+        assertTrue(maxInFlight.get() <= 3, "max in flight was " + maxInFlight.get());
+        assertTrue(maxInFlight.get() > 1);
+    }
+    
+    @Test
+    void shouldAnswerMalformedRequestWithoutIdAndSkipValidNotification() throws Exception {
+        // Given
+        McpJsonRpcHandler handler = new McpJsonRpcHandler(objectMapper, null, null);
+        String input = "{\"jsonrpc\":\"2.0\",\"params\":{}}\n"
+            + "{\"jsonrpc\":\"2.0\",\"method\":\"tools/list\"}\n";
+        
+        // When
+        String[] lines = serve(handler, 4, input);
+        
+        // Then
+        assertEquals(1, lines.length);
+        JsonNode response = objectMapper.readTree(lines[0]);
+        assertTrue(response.path("id").isMissingNode() || response.path("id").isNull());
+        assertEquals(JsonRpcError.INVALID_REQUEST, response.get("error").get("code").asInt());
+    }
+    
+    private String[] serve(McpJsonRpcHandler handler, int maxConcurrentRequests, String input) throws Exception {
+        McpServerProperties properties = new McpServerProperties();
+        properties.setMaxConcurrentRequests(maxConcurrentRequests);
+        McpStdioTransport transport = new McpStdioTransport(objectMapper, handler, properties);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        transport.serve(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+        return output.toString(StandardCharsets.UTF_8).split("\n");
+    }
+    
+    private static String request(int id, String method) {
+        return "{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"" + method + "\"}\n";
+    }
+    
+    @FunctionalInterface
+    private interface Work {
+        void run(JsonRpcRequest request) throws Exception;
+    }
+    
+    /**
+     * Handler that runs the given work and answers with the method name.
+     */
+    private final class StubHandler extends McpJsonRpcHandler {
+        
+        private final Work work;
+        
+        StubHandler(Work work) {
+            super(objectMapper, null, null);
+            this.work = work;
+        }
+        
+        @Override
+        public JsonRpcResponse handleRequest(JsonRpcRequest request) {
+            try {
+                work.run(request);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return JsonRpcResponse.success(request.getMethod(), request.getId());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.asusrouter.infrastructure.adapter.in.mcp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for McpStreamReader.
+ */
+class McpStreamReaderTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> messages = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    
+    @Test
+    void shouldDecodeMessagesSplitAcrossReads() throws Exception {
+        // Given - input delivered three bytes at a time
+        String input = """
+            {"jsonrpc":"2.0","method":"ping","id":1}
+            [{"jsonrpc":"2.0","method":"a","id":2},{"jsonrpc":"2.0","method":"b","id":3}]
+            
+            {"jsonrpc":"2.0","method":"ü","id":4}
+            """;
+        
+        // When
+        read(new ChunkedInputStream(input.getBytes(StandardCharsets.UTF_8), 3));
+        
+        // Then
+        assertTrue(errors.isEmpty());
+        assertEquals(3, messages.size());
+        assertEquals(1, messages.get(0).get("id").asInt());
+        assertTrue(messages.get(1).isArray());
+        assertEquals(2, messages.get(1).size());
+        assertEquals("ü", messages.get(2).get("method").asText());
+    }
+    
+    @Test
+    void shouldRecoverAtNextLineAfterMalformedInput() throws Exception {
+        // Given
+        String input = """
+            {"jsonrpc":"2.0",,"id":1}
+            {"jsonrpc":"2.0","method":
+            {"jsonrpc":"2.0","method":"ping","id":2}
+            """;
+        
+        // When
+        read(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+        
+        // Then
+        assertEquals(2, errors.size());
+        assertEquals(1, messages.size());
+        assertEquals(2, messages.get(0).get("id").asInt());
+    }
+    
+    private void read(InputStream input) throws Exception {
+        new McpStreamReader(objectMapper, input).readAll(new McpStreamReader.MessageHandler() {
+            @Override
+            public void onMessage(TokenBuffer message) {
+                try {
+                    messages.add(objectMapper.readTree(message.asParser(objectMapper)));
+                } catch (IOException e) {
+                    fail(e);
+                }
+            }
+            
+            @Override
+            public void onParseError(String detail) {
+                errors.add(detail);
+            }
+        });
+    }
+    
+    /**
+     * Returns at most {@code chunkSize} bytes per read.
+     */
+    private static final class ChunkedInputStream extends ByteArrayInputStream {
+        private final int chunkSize;
+        
+        ChunkedInputStream(byte[] data, int chunkSize) {
+            super(data);
+            this.chunkSize = chunkSize;
+        }
+        
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, chunkSize));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.asusrouter.infrastructure.adapter.in.mcp.protocol;
+
+import com.asusrouter.domain.model.Timestamped;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for RawJson.
+ */
+class RawJsonTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    void shouldWriteRouterJsonUnescaped() throws Exception {
+        // Given
+        String routerJson = "{\"get_clientlist\":{\"AA:BB:CC:DD:EE:FF\":{\"name\":\"laptop\"}}}";
+        
+        // When
+        Object result = RawJson.passThrough(routerJson);
+        String response = objectMapper.writeValueAsString(JsonRpcResponse.success(result, 1));
+        
+        // Then
+        assertInstanceOf(RawJson.class, result);
+        assertEquals("{\"jsonrpc\":\"2.0\",\"result\":" + routerJson + ",\"id\":1}", response);
+    }
+    
+    @Test
+    void shouldKeepInvalidOrNonDocumentTextAsString() {
+        // Given / When / Then
+        assertEquals("{\"truncated\":", RawJson.passThrough("{\"truncated\":"));
+        assertEquals("{} trailing", RawJson.passThrough("{} trailing"));
+        assertEquals("12345", RawJson.passThrough("12345"));
+        assertEquals("", RawJson.passThrough(""));
+    }
+    
+    @Test
+    void shouldPassThroughTimestampedValue() throws Exception {
+        // Given
+        Timestamped<String> snapshot = new Timestamped<>("[1,2]", 1500, true);
+        
+        // When
+        String json = objectMapper.writeValueAsString(RawJson.passThrough(snapshot));
+        
+        // Then
+        assertEquals("{\"value\":[1,2],\"ageMillis\":1500,\"stale\":true}", json);
+    }
+}
@@ -0,0 +1,68 @@
+package com.asusrouter.infrastructure.adapter.in.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.asusrouter.application.port.in.GetCpuUtilizationUseCase;
+import com.asusrouter.application.port.in.GetMemoryUsageUseCase;
+import com.asusrouter.application.port.in.GetTrafficUseCase;
+import com.asusrouter.infrastructure.config.RouterProperties;
+
+/**
+ * Unit test for MetricSampler.
+ */
+@ExtendWith(MockitoExtension.class)
+class MetricSamplerTest {
+    
+    @Mock
+    private GetCpuUtilizationUseCase getCpuUtilizationUseCase;
+    
+    @Mock
+    private GetMemoryUsageUseCase getMemoryUsageUseCase;
+    
+    @Mock
+    private GetTrafficUseCase getTrafficUseCase;
+    
+    @Test
+    void shouldSampleAllMetricsAfterStart() {
+        // Given
+        RouterProperties routerProperties = new RouterProperties();
+        routerProperties.getHistory().setSampleInterval(10);
+        MetricSampler sampler = new MetricSampler(
+            getCpuUtilizationUseCase, getMemoryUsageUseCase, getTrafficUseCase, routerProperties);
+        
+        // When
+        sampler.start();
+        try {
+            // Then
+            verify(getCpuUtilizationUseCase, timeout(2000).atLeast(2)).execute();
+            verify(getMemoryUsageUseCase, timeout(2000).atLeast(2)).execute();
+            verify(getTrafficUseCase, timeout(2000).atLeast(2)).execute();
+            assertTrue(sampler.isRunning());
+        } finally {
+            sampler.stop();
+        }
+        assertFalse(sampler.isRunning());
+    }
+    
+    @Test
+    void shouldNotStartWhenDisabled() {
+        // Given
+        RouterProperties routerProperties = new RouterProperties();
+        routerProperties.getHistory().setEnabled(false);
+        MetricSampler sampler = new MetricSampler(
+            getCpuUtilizationUseCase, getMemoryUsageUseCase, getTrafficUseCase, routerProperties);
+        
+        // When
+        sampler.start();
+        
+        // Then
+        assertFalse(sampler.isRunning());
+        verifyNoInteractions(getCpuUtilizationUseCase, getMemoryUsageUseCase, getTrafficUseCase);
+    }
+}
@@ -0,0 +1,117 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.asusrouter.domain.exception.RouterCommunicationException;
+import com.asusrouter.infrastructure.config.RouterProperties;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit test for RouterHookBatcher.
+ */
+@ExtendWith(MockitoExtension.class)
+class RouterHookBatcherTest {
+    
+    @Mock
+    private RouterCommandExecutor commandExecutor;
+    
+    private RouterProperties routerProperties;
+    private RouterHookBatcher batcher;
+    
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        routerProperties = new RouterProperties();
+        routerProperties.setBatchWindow(200);
+        batcher = new RouterHookBatcher(commandExecutor, routerProperties);
+    }
+    
+    @Test
+    void shouldCombineConcurrentHooksIntoOneRequest() {
+        // Given
+        RouterHook uptime = new RouterHook("uptime", null);
+        RouterHook memory = new RouterHook("memory_usage", null);
+        RouterHook clients = new RouterHook("get_clientlist", "2");
+        when(commandExecutor.executeBatch(anyList())).thenReturn(Mono.just(Map.of(
+            uptime, "since;1", memory, "1;2;3", clients, "{}")));
+        
+        // When
+        var results = Mono.zip(
+                batcher.submit("uptime", null),
+                batcher.submit("memory_usage", null),
+                batcher.submit("get_clientlist", "2"))
+            .block();
+        
+        // Then
+        assertNotNull(results);
+        assertEquals("since;1", results.getT1());
+        assertEquals("1;2;3", results.getT2());
+        assertEquals("{}", results.getT3());
+        verify(commandExecutor).executeBatch(List.of(uptime, memory, clients));
+        verify(commandExecutor, never()).execute(any(), any());
+    }
+    
+    @Test
+    void shouldSplitSameHookWithDifferentParametersIntoSeparateRequests() {
+        // Given
+        when(commandExecutor.execute("get_clientlist", "0")).thenReturn(Mono.just("basic"));
+        when(commandExecutor.execute("get_clientlist", "2")).thenReturn(Mono.just("full"));
+        
+        // When
+        var results = Mono.zip(
+                batcher.submit("get_clientlist", "0"),
+                batcher.submit("get_clientlist", "2"))
+            .block();
+        
+        // Then
+        assertNotNull(results);
+        assertEquals("basic", results.getT1());
+        assertEquals("full", results.getT2());
+        verify(commandExecutor, never()).executeBatch(anyList());
+    }
+    
+    @Test
+    void shouldFailCallerWhoseHookIsMissingFromResponse() {
+        // Given
+        RouterHook uptime = new RouterHook("uptime", null);
+        when(commandExecutor.executeBatch(anyList())).thenReturn(Mono.just(Map.of(uptime, "since;1")));
+        
+        Mono<String> uptimeResult = batcher.submit("uptime", null);
+        Mono<String> cpuResult = batcher.submit("cpu_usage", null);
+        
+        // When
+        var results = Mono.zip(uptimeResult, cpuResult.onErrorReturn(RouterCommunicationException.class, "missing"))
+            .block();
+        
+        // Then
+        assertNotNull(results);
+        assertEquals("since;1", results.getT1());
+        assertEquals("missing", results.getT2());
+    }
+    
+    @Test
+    void shouldBypassBatchingWhenWindowIsZero() {
+        // Given
+        routerProperties.setBatchWindow(0);
+        when(commandExecutor.execute("uptime", null)).thenReturn(Mono.just("since;1"));
+        
+        // When
+        String result = batcher.fetch("uptime");
+        
+        // Then
+        assertEquals("since;1", result);
+        verify(commandExecutor, never()).executeBatch(anyList());
+    }
+}
@@ -0,0 +1,74 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.asusrouter.domain.model.Timestamped;
+import com.asusrouter.infrastructure.config.RouterProperties;
+
+/**
+ * Unit test for RouterMetricPoller.
+ */
+@ExtendWith(MockitoExtension.class)
+class RouterMetricPollerTest {
+    
+    @Mock
+    private RouterRequestCoalescer requestCoalescer;
+    
+    @Test
+    void shouldPublishPolledResponsesPerHook() throws Exception {
+        // Given
+        RouterProperties routerProperties = new RouterProperties();
+        routerProperties.getPoller().setIntervals(Map.of("uptime", 20L, "get_clientlist(2)", 20L));
+        RouterMetricSnapshots metricSnapshots = new RouterMetricSnapshots();
+        RouterMetricPoller poller = new RouterMetricPoller(requestCoalescer, metricSnapshots, routerProperties);
+        when(requestCoalescer.fetch("uptime", null)).thenReturn("up");
+        when(requestCoalescer.fetch("get_clientlist", "2")).thenReturn("clients");
+        
+        // When
+        poller.start();
+        try {
+            verify(requestCoalescer, timeout(2000).atLeast(2)).fetch("uptime", null);
+            verify(requestCoalescer, timeout(2000).atLeast(2)).fetch("get_clientlist", "2");
+        } finally {
+            poller.stop();
+        }
+        
+        // Then
+        Timestamped<String> uptime = metricSnapshots.latest(new RouterHook("uptime", null));
+        assertEquals("up", uptime.value());
+        assertEquals("clients", metricSnapshots.latest(new RouterHook("get_clientlist", "2")).value());
+        assertFalse(poller.isRunning());
+    }
+    
+    @Test
+    void shouldNotStartWhenDisabled() {
+        // Given
+        RouterProperties routerProperties = new RouterProperties();
+        routerProperties.getPoller().setEnabled(false);
+        routerProperties.getPoller().setIntervals(Map.of("uptime", 20L));
+        RouterMetricPoller poller = new RouterMetricPoller(requestCoalescer, new RouterMetricSnapshots(), routerProperties);
+        
+        // When
+        poller.start();
+        
+        // Then
+        assertFalse(poller.isRunning());
+        verifyNoInteractions(requestCoalescer);
+    }
+    
+    @Test
+    void shouldParseHookExpressions() {
+        assertEquals(new RouterHook("uptime", null), RouterMetricPoller.parseHook("uptime"));
+        assertEquals(new RouterHook("netdev", null), RouterMetricPoller.parseHook("netdev()"));
+        assertEquals(new RouterHook("get_clientlist", "2"), RouterMetricPoller.parseHook("get_clientlist(2)"));
+        assertThrows(IllegalArgumentException.class, () -> RouterMetricPoller.parseHook("get_clientlist(2"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.asusrouter.domain.exception.RouterCommunicationException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit test for RouterRequestCoalescer.
+ */
+@ExtendWith(MockitoExtension.class)
+class RouterRequestCoalescerTest {
+    
+    @Mock
+    private RouterHookBatcher hookBatcher;
+    
+    private RouterRequestCoalescer coalescer;
+    
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        coalescer = new RouterRequestCoalescer(hookBatcher);
+    }
+    
+    @Test
+    void shouldShareInFlightRequestForIdenticalReads() {
+        // Given
+        when(hookBatcher.submit("get_clientlist", "2"))
+            .thenReturn(Mono.just("{}").delayElement(Duration.ofMillis(100)));
+        
+        // When
+        var results = Flux.range(0, 10)
+            .flatMap(i -> coalescer.submit("get_clientlist", "2"))
+            .collectList()
+            .block();
+        
+        // Then
+        assertNotNull(results);
+        assertEquals(10, results.size());
+        verify(hookBatcher, times(1)).submit("get_clientlist", "2");
+    }
+    
+    @Test
+    void shouldNotShareRequestsWithDifferentParameters() {
+        // Given
+        when(hookBatcher.submit("get_clientlist", "0")).thenReturn(Mono.just("basic"));
+        when(hookBatcher.submit("get_clientlist", "2")).thenReturn(Mono.just("full"));
+        
+        // When/Then
+        assertEquals("basic", coalescer.fetch("get_clientlist", "0"));
+        assertEquals("full", coalescer.fetch("get_clientlist", "2"));
+    }
+    
+    @Test
+    void shouldStartNewRequestAfterPreviousCompletedOrFailed() {
+        // Given
+        when(hookBatcher.submit("uptime", null))
+            .thenReturn(Mono.error(new RouterCommunicationException("down")))
+            .thenReturn(Mono.just("since;1"));
+        
+        // When/Then
+        assertThrows(RouterCommunicationException.class, () -> coalescer.fetch("uptime"));
+        assertEquals("since;1", coalescer.fetch("uptime"));
+        verify(hookBatcher, times(2)).submit("uptime", null);
+    }
+}
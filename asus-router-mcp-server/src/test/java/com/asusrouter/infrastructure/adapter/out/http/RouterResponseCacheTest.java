@@ -0,0 +1,213 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.asusrouter.domain.exception.RouterCommunicationException;
+import com.asusrouter.domain.model.Timestamped;
+import com.asusrouter.infrastructure.config.RouterProperties;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit test for RouterResponseCache.
+ */
+@ExtendWith(MockitoExtension.class)
+class RouterResponseCacheTest {
+    
+    @Mock
+    private RouterRequestCoalescer requestCoalescer;
+    
+    private RouterProperties routerProperties;
+    private RouterMetricSnapshots metricSnapshots;
+    private RouterResponseCache cache;
+    
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        routerProperties = new RouterProperties();
+        routerProperties.getCache().setTtl(Map.of("nvram_dump", 60000L, "get_clientlist", 60000L, "onlinelist", 1L));
+        metricSnapshots = new RouterMetricSnapshots();
+        cache = new RouterResponseCache(requestCoalescer, routerProperties, metricSnapshots);
+    }
+    
+    @Test
+    void shouldServeRepeatedReadsFromCacheWithinTtl() {
+        // Given
+        when(requestCoalescer.submit("nvram_dump", null)).thenReturn(Mono.just("{}"));
+        
+        // When
+        cache.fetch("nvram_dump");
+        String second = cache.fetch("nvram_dump");
+        
+        // Then
+        assertEquals("{}", second);
+        verify(requestCoalescer, times(1)).submit("nvram_dump", null);
+        RouterResponseCache.Stats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRate(), 0.0001);
+    }
+    
+    @Test
+    void shouldAlwaysFetchHooksWithoutTtl() {
+        // Given
+        when(requestCoalescer.submit("netdev", null)).thenReturn(Mono.just("{}"));
+        
+        // When
+        cache.fetch("netdev");
+        cache.fetch("netdev");
+        
+        // Then
+        verify(requestCoalescer, times(2)).submit("netdev", null);
+        assertEquals(0, cache.stats().size());
+    }
+    
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        // Given
+        routerProperties.getCache().setMaxEntries(1);
+        when(requestCoalescer.submit("get_clientlist", "0")).thenReturn(Mono.just("basic"));
+        when(requestCoalescer.submit("get_clientlist", "2")).thenReturn(Mono.just("full"));
+        
+        // When
+        cache.fetch("get_clientlist", "0");
+        cache.fetch("get_clientlist", "2");
+        cache.fetch("get_clientlist", "0");
+        
+        // Then
+        verify(requestCoalescer, times(2)).submit("get_clientlist", "0");
+        assertEquals(2, cache.stats().evictions());
+        assertEquals(1, cache.stats().size());
+    }
+    
+    @Test
+    void shouldNotCacheFailedRequests() {
+        // Given
+        when(requestCoalescer.submit("nvram_dump", null))
+            .thenReturn(Mono.error(new RouterCommunicationException("down")))
+            .thenReturn(Mono.just("{}"));
+        
+        // When/Then
+        assertThrows(RouterCommunicationException.class, () -> cache.fetch("nvram_dump"));
+        assertEquals("{}", cache.fetch("nvram_dump"));
+    }
+    
+    @Test
+    void shouldServeStaleSnapshotWhileRefreshingInBackground() throws InterruptedException {
+        // Given
+        when(requestCoalescer.submit("onlinelist", null))
+            .thenReturn(Mono.just("[1]"))
+            .thenReturn(Mono.just("[2]"));
+        Timestamped<String> first = cache.fetchStaleWhileRevalidate("onlinelist", null);
+        Thread.sleep(5);
+        
+        // When
+        Timestamped<String> stale = cache.fetchStaleWhileRevalidate("onlinelist", null);
+        
+        // Then
+        assertEquals("[1]", first.value());
+        assertFalse(first.stale());
+        assertEquals("[1]", stale.value());
+        assertTrue(stale.stale());
+        assertTrue(stale.ageMillis() >= 1);
+        verify(requestCoalescer, times(2)).submit("onlinelist", null);
+        Thread.sleep(5);
+        assertEquals("[2]", cache.fetchStaleWhileRevalidate("onlinelist", null).value());
+    }
+    
+    @Test
+    void shouldKeepExpiredEntryForStaleReadsAfterPlainFetch() throws InterruptedException {
+        // Given - a plain fetch past the TTL misses, and its router call fails
+        when(requestCoalescer.submit("onlinelist", null))
+            .thenReturn(Mono.just("[1]"))
+            .thenReturn(Mono.error(new RouterCommunicationException("down")))
+            .thenReturn(Mono.just("[2]"));
+        cache.fetch("onlinelist");
+        Thread.sleep(5);
+        assertThrows(RouterCommunicationException.class, () -> cache.fetch("onlinelist"));
+        
+        // When
+        Timestamped<String> stale = cache.fetchStaleWhileRevalidate("onlinelist", null);
+        
+        // Then
+        assertEquals("[1]", stale.value());
+        assertTrue(stale.stale());
+    }
+    
+    @Test
+    void shouldWaitForRouterWhenStaleServingIsDisabled() throws InterruptedException {
+        // Given
+        routerProperties.getCache().setStaleWhileRevalidate(false);
+        when(requestCoalescer.submit("onlinelist", null))
+            .thenReturn(Mono.just("[1]"))
+            .thenReturn(Mono.just("[2]"));
+        cache.fetchStaleWhileRevalidate("onlinelist", null);
+        Thread.sleep(5);
+        
+        // When
+        Timestamped<String> result = cache.fetchStaleWhileRevalidate("onlinelist", null);
+        
+        // Then
+        assertEquals("[2]", result.value());
+        assertFalse(result.stale());
+    }
+    
+    @Test
+    void shouldServePolledSnapshotWithoutCallingRouter() {
+        // Given
+        RouterHook netdev = new RouterHook("netdev", null);
+        metricSnapshots.register(netdev, 60000);
+        metricSnapshots.publish(netdev, "{\"netdev\":{}}");
+        
+        // When
+        String value = cache.fetch("netdev");
+        Timestamped<String> snapshot = cache.fetchStaleWhileRevalidate("netdev", null);
+        
+        // Then
+        assertEquals("{\"netdev\":{}}", value);
+        assertFalse(snapshot.stale());
+        verifyNoInteractions(requestCoalescer);
+        assertEquals(2, cache.stats().hits());
+    }
+    
+    @Test
+    void shouldReportAgeOfPolledSnapshot() throws InterruptedException {
+        // Given
+        RouterHook netdev = new RouterHook("netdev", null);
+        metricSnapshots.register(netdev, 10_000);
+        metricSnapshots.publish(netdev, "{\"netdev\":{}}");
+        Thread.sleep(50);
+        
+        // When
+        Timestamped<String> reading = cache.fetchWithAge("netdev", null);
+        
+        // Then
+        assertEquals("{\"netdev\":{}}", reading.value());
+        assertTrue(reading.ageMillis() >= 50);
+        verifyNoInteractions(requestCoalescer);
+    }
+    
+    @Test
+    void shouldFetchFromRouterWhenPolledSnapshotIsTooOld() {
+        // Given
+        RouterHook uptime = new RouterHook("uptime", null);
+        metricSnapshots.register(uptime, 0);
+        metricSnapshots.publish(uptime, "old");
+        when(requestCoalescer.submit("uptime", null)).thenReturn(Mono.just("new"));
+        
+        // When
+        String value = cache.fetch("uptime");
+        
+        // Then
+        assertEquals("new", value);
+    }
+}
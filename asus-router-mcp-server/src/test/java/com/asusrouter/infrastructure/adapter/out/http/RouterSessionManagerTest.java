@@ -0,0 +1,110 @@
+package com.asusrouter.infrastructure.adapter.out.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.asusrouter.domain.exception.RouterAuthenticationException;
+import com.asusrouter.infrastructure.config.RouterProperties;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit test for RouterSessionManager.
+ */
+@ExtendWith(MockitoExtension.class)
+class RouterSessionManagerTest {
+    
+    @Mock
+    private AsusRouterAuthenticator authenticator;
+    
+    private RouterProperties routerProperties;
+    private RouterSessionManager sessionManager;
+    
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        routerProperties = new RouterProperties();
+        sessionManager = new RouterSessionManager(authenticator, routerProperties);
+    }
+    
+    @Test
+    void shouldLoginOnceForConcurrentFirstRequests() {
+        // Given
+        AtomicInteger logins = new AtomicInteger();
+        when(authenticator.authenticate()).thenAnswer(inv -> Mono.fromCallable(() -> "token-" + logins.incrementAndGet())
+            .delayElement(Duration.ofMillis(50)));
+        
+        // When
+        var tokens = Flux.range(0, 20)
+            .flatMap(i -> sessionManager.getToken())
+            .collectList()
+            .block();
+        
+        // Then
+        assertNotNull(tokens);
+        assertEquals(20, tokens.size());
+        assertTrue(tokens.stream().allMatch("token-1"::equals));
+        verify(authenticator, times(1)).authenticate();
+    }
+    
+    @Test
+    void shouldReloginOnceWhenManyCallersReportSameRejectedToken() {
+        // Given
+        AtomicInteger logins = new AtomicInteger();
+        when(authenticator.authenticate()).thenAnswer(inv -> Mono.fromCallable(() -> "token-" + logins.incrementAndGet())
+            .delayElement(Duration.ofMillis(50)));
+        String first = sessionManager.getToken().block();
+        
+        // When
+        var renewed = Flux.range(0, 20)
+            .flatMap(i -> sessionManager.renew(first))
+            .collectList()
+            .block();
+        
+        // Then
+        assertNotNull(renewed);
+        assertTrue(renewed.stream().allMatch("token-2"::equals));
+        assertEquals("token-2", sessionManager.renew(first).block());
+        verify(authenticator, times(2)).authenticate();
+    }
+    
+    @Test
+    void shouldRenewInBackgroundBeforeExpiry() {
+        // Given
+        routerProperties.setSessionLifetime(60000);
+        routerProperties.setSessionRenewMargin(60000);
+        AtomicInteger logins = new AtomicInteger();
+        when(authenticator.authenticate()).thenAnswer(inv -> Mono.fromCallable(() -> "token-" + logins.incrementAndGet()));
+        sessionManager.getToken().block();
+        
+        // When
+        String stillValid = sessionManager.getToken().block();
+        
+        // Then
+        assertEquals("token-1", stillValid);
+        assertEquals("token-2", sessionManager.getToken().block());
+    }
+    
+    @Test
+    void shouldAllowRetryAfterFailedLogin() {
+        // Given
+        when(authenticator.authenticate())
+            .thenReturn(Mono.error(new RouterAuthenticationException("bad credentials")))
+            .thenReturn(Mono.just("token-ok"));
+        
+        // When/Then
+        var tokenMono = sessionManager.getToken();
+        assertThrows(RouterAuthenticationException.class, tokenMono::block);
+        assertEquals("token-ok", sessionManager.getToken().block());
+    }
+}
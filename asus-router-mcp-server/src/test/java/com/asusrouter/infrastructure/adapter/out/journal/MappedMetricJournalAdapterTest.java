@@ -0,0 +1,153 @@
+package com.asusrouter.infrastructure.adapter.out.journal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.asusrouter.infrastructure.config.JournalProperties;
+
+/**
+ * Unit test for MappedMetricJournalAdapter.
+ */
+class MappedMetricJournalAdapterTest {
+    
+    @TempDir
+    Path directory;
+    
+    private record Sample(String metric, long timeMillis, double value) {
+    }
+    
+    @Test
+    void shouldReplaySamplesAfterReopen() {
+        // Given
+        MappedMetricJournalAdapter journal = new MappedMetricJournalAdapter(properties(4096));
+        journal.append("cpu.average", 1_000, 12.5);
+        journal.append("memory.used_kb", 1_000, 2048);
+        journal.append("cpu.average", 2_000, 40.0);
+        journal.close();
+        
+        // When
+        List<Sample> samples = replayAndClose(new MappedMetricJournalAdapter(properties(4096)));
+        
+        // Then
+        assertEquals(List.of(
+            new Sample("cpu.average", 1_000, 12.5),
+            new Sample("memory.used_kb", 1_000, 2048),
+            new Sample("cpu.average", 2_000, 40.0)), samples);
+    }
+    
+    @Test
+    void shouldCutOffTornTailAndContinueAppending() throws Exception {
+        // Given: header 16 bytes, definition of "cpu.average" 20 bytes, samples 23 bytes each
+        MappedMetricJournalAdapter journal = new MappedMetricJournalAdapter(properties(4096));
+        journal.append("cpu.average", 1_000, 1.0);
+        journal.append("cpu.average", 2_000, 2.0);
+        journal.append("cpu.average", 3_000, 3.0);
+        journal.close();
+        try (RandomAccessFile file = new RandomAccessFile(segments().get(0).toFile(), "rw")) {
+            file.seek(36 + 23 + 10);
+            file.write(0x7F);
+            file.seek(1000);
+            file.write(new byte[] {2, 0, 0, 1, 2, 3});
+        }
+        
+        // When
+        MappedMetricJournalAdapter recovered = new MappedMetricJournalAdapter(properties(4096));
+        recovered.append("cpu.average", 4_000, 4.0);
+        
+        // Then
+        assertEquals(List.of(
+            new Sample("cpu.average", 1_000, 1.0),
+            new Sample("cpu.average", 4_000, 4.0)), replayAndClose(recovered));
+    }
+    
+    @Test
+    void shouldRotateFullSegmentsAndDeleteExpiredOnes() throws Exception {
+        // Given
+        MappedMetricJournalAdapter journal = new MappedMetricJournalAdapter(properties(512));
+        for (int i = 0; i < 50; i++) {
+            journal.append("traffic.INTERNET.rx_bytes", i * 1_000L, i);
+        }
+        journal.close();
+        List<Path> segments = segments();
+        assertTrue(segments.size() > 2);
+        assertEquals(50, replayAndClose(new MappedMetricJournalAdapter(properties(512))).size());
+        
+        // When
+        Files.setLastModifiedTime(segments.get(0), FileTime.fromMillis(0));
+        List<Sample> samples = replayAndClose(new MappedMetricJournalAdapter(properties(512)));
+        
+        // Then
+        assertFalse(Files.exists(segments.get(0)));
+        assertTrue(samples.size() < 50);
+        assertEquals(49, samples.get(samples.size() - 1).value());
+    }
+    
+    @Test
+    void shouldRunWithoutJournalWhileAnotherInstanceHoldsTheDirectory() {
+        // Given
+        MappedMetricJournalAdapter owner = new MappedMetricJournalAdapter(properties(4096));
+        owner.append("cpu.average", 1_000, 1.0);
+        
+        // When
+        MappedMetricJournalAdapter second = new MappedMetricJournalAdapter(properties(4096));
+        second.append("cpu.average", 2_000, 2.0);
+        
+        // Then
+        assertTrue(replay(second).isEmpty());
+        assertEquals(List.of(new Sample("cpu.average", 1_000, 1.0)), replay(owner));
+        owner.close();
+        assertEquals(List.of(new Sample("cpu.average", 1_000, 1.0)),
+            replayAndClose(new MappedMetricJournalAdapter(properties(4096))));
+    }
+    
+    @Test
+    void shouldDoNothingWhenDisabled() {
+        // Given
+        JournalProperties properties = properties(4096);
+        properties.setEnabled(false);
+        MappedMetricJournalAdapter journal = new MappedMetricJournalAdapter(properties);
+        
+        // When
+        journal.append("cpu.average", 1_000, 1.0);
+        
+        // Then
+        assertTrue(replay(journal).isEmpty());
+        assertFalse(Files.exists(directory.resolve("journal")));
+    }
+    
+    private JournalProperties properties(long segmentSize) {
+        JournalProperties properties = new JournalProperties();
+        properties.setDirectory(directory.resolve("journal").toString());
+        properties.setSegmentSize(segmentSize);
+        properties.setRetention(60_000);
+        return properties;
+    }
+    
+    private List<Path> segments() throws Exception {
+        try (Stream<Path> files = Files.list(directory.resolve("journal"))) {
+            return files.filter(file -> file.toString().endsWith(".journal")).sorted().toList();
+        }
+    }
+    
+    private static List<Sample> replayAndClose(MappedMetricJournalAdapter journal) {
+        List<Sample> samples = replay(journal);
+        journal.close();
+        return samples;
+    }
+    
+    private static List<Sample> replay(MappedMetricJournalAdapter journal) {
+        List<Sample> samples = new ArrayList<>();
+        journal.replay((metric, time, value) -> samples.add(new Sample(metric, time, value)));
+        return samples;
+    }
+}
@@ -0,0 +1,64 @@
+package com.asusrouter.infrastructure.adapters.in.mcp.generated;
+
+import com.asusrouter.domain.model.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test for the generated McpSchemaModule JSON writers.
+ * The generated writers must produce the same JSON as Jackson's reflective serializers.
+ */
+class McpSchemaModuleTest {
+    
+    private final ObjectMapper reflective = new ObjectMapper();
+    private final ObjectMapper generated = new ObjectMapper().registerModule(new McpSchemaModule());
+    
+    private final IpAddress ip = new IpAddress("192.168.1.10");
+    private final MacAddress mac = new MacAddress("AA:BB:CC:DD:EE:FF");
+    private final Netmask mask = new Netmask("255.255.255.0");
+    
+    @Test
+    void shouldUseGeneratedWriters() throws Exception {
+        // When / Then
+        assertInstanceOf(ClientFullInfoJsonWriter.class,
+            generated.getSerializerProviderInstance().findValueSerializer(ClientFullInfo.class));
+    }
+    
+    @Test
+    void shouldMatchReflectiveOutputForAllSchemaRecords() throws Exception {
+        // Given
+        List<Object> values = List.of(
+            new ClientFullInfo("n", null, ip, mac, "f", 0, false, true, false, false, "dt", "dd", "v", "os", "ss",
+                1, true, null, "1", "2", "3", "4", 10, "m", null, true, "g", "cb", "k", "q", false, "allow", 1),
+            new ClientSummary("nick", ip, mac, true, "name", null, 2, -50, "5"),
+            new CpuUsage("100", "50", "100", "25"),
+            new CoreUtilization(1, 12.5, 250, 2000),
+            new CpuUtilization(9.4, 5012, false,
+                List.of(new CoreUtilization(1, 12.5, 250, 2000), new CoreUtilization(2, 6.3, 126, 2000))),
+            new DhcpLease("host", mac, ip, "86400"),
+            new MemoryUsage("1000", "250", "750"),
+            new MetricBucket(1721651520000L, 3.1, 18.4, 7.9, 5.2, 60),
+            new MetricHistory("cpu.average", 3600000, 1721046720000L, 1721651520000L,
+                List.of(new MetricBucket(1721048400000L, 2.5, 41.0, 8.3, 6.1, 3600))),
+            new OnlineClient(mac, ip),
+            new RouterSettings("r", "fw", ip, mask, ip, "d", ip, mask, null, null, "s0", "s1", 0, 1,
+                "a", "b", "c", "d", "k0", "k1", 1, ip, ip),
+            new TrafficWithSpeed(new TrafficTotal(1.5, 2.25), new TrafficSpeed(0.0, 3.0)),
+            new Uptime("Thu, 22 Jul 2021 14:32:38 +0200", "375001"),
+            new WanStatus("connected", 1, ip, ip, mask, List.of(ip, new IpAddress("2001:4860:4860::8888")))
+        );
+        
+        for (Object value : values) {
+            // When
+            String expected = reflective.writeValueAsString(value);
+            String actual = generated.writeValueAsString(value);
+            
+            // Then - same properties and values (property order may differ)
+            assertEquals(reflective.readTree(expected), generated.readTree(actual), value.getClass().getSimpleName());
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.springframework.test.context.DynamicPropertySource;
  */
 @Disabled("Stdio mocking not yet implemented - requires System.in/out redirection")
 @SpringBootTest
+@org.springframework.test.context.ActiveProfiles("test")
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class McpStdioIntegrationTest {
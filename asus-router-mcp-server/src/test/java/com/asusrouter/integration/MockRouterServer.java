@@ -3,9 +3,11 @@ package com.asusrouter.integration;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
+import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import com.sun.net.httpserver.HttpExchange;
@@ -27,7 +29,7 @@ public class MockRouterServer {
     private final int port;
     private final String username;
     private final String password;
-    private final Map<String, String> sessionTokens = new HashMap<>();
+    private final Map<String, String> sessionTokens = new ConcurrentHashMap<>();
     private boolean authenticationRequired = true;
     
     public MockRouterServer(int port, String username, String password) {
@@ -106,19 +108,25 @@ public class MockRouterServer {
     private class LoginHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange exchange) throws IOException {
-            String query = exchange.getRequestURI().getQuery();
-            Map<String, String> params = parseQuery(query);
+            Map<String, String> params = parseRequestParams(exchange);
             
             String loginUsername = params.get("login_username");
             String loginPassword = params.get("login_authorization");
+            boolean formLogin = loginUsername == null;
+            if (formLogin) {
+                // RouterInfo.py style: login_authorization=base64(username:password)
+                String[] credentials = decodeCredentials(loginPassword);
+                loginUsername = credentials[0];
+                loginPassword = credentials[1];
+            }
             
             if (username.equals(loginUsername) && password.equals(loginPassword)) {
                 // Generate session token
-                String token = "mock_token_" + System.currentTimeMillis();
+                String token = "mock_token_" + System.nanoTime();
                 sessionTokens.put(token, loginUsername);
                 
-                // Return success with token (asus_token cookie)
-                String response = token;
+                // Return success with token (asus_token cookie), JSON body for form logins
+                String response = formLogin ? "{\"asus_token\":\"" + token + "\"}" : token;
                 exchange.getResponseHeaders().add("Set-Cookie", "asus_token=" + token);
                 sendResponse(exchange, 200, response);
                 log.fine("Login successful for user: " + loginUsername);
@@ -141,8 +149,7 @@ public class MockRouterServer {
                 return;
             }
             
-            String query = exchange.getRequestURI().getQuery();
-            Map<String, String> params = parseQuery(query);
+            Map<String, String> params = parseRequestParams(exchange);
             String hook = params.get("hook");
             
             if (hook == null) {
@@ -150,7 +157,7 @@ public class MockRouterServer {
                 return;
             }
             
-            String response = generateResponse(hook, params);
+            String response = hook.contains("(") ? generateMultiHookResponse(hook) : generateResponse(hook, params);
             sendResponse(exchange, 200, response);
             log.fine("Handled hook: " + hook + " -> " + response.substring(0, Math.min(50, response.length())));
         }
@@ -186,6 +193,37 @@ public class MockRouterServer {
         return false;
     }
     
+    /**
+     * Generate a JSON object keyed by hook name for a multi-hook payload
+     * such as "uptime();memory_usage();get_clientlist(2)".
+     */
+    private String generateMultiHookResponse(String hooks) {
+        StringBuilder json = new StringBuilder("{");
+        for (String expression : hooks.split(";")) {
+            int open = expression.indexOf('(');
+            if (open < 0 || !expression.endsWith(")")) {
+                continue;
+            }
+            String name = expression.substring(0, open).trim();
+            String argument = expression.substring(open + 1, expression.length() - 1);
+            Map<String, String> hookParams = new HashMap<>();
+            if (!argument.isEmpty()) {
+                hookParams.put("parameter", argument);
+            }
+            String value = generateResponse(name, hookParams);
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append('"').append(name).append("\":");
+            if (value.startsWith("{") || value.startsWith("[")) {
+                json.append(value);
+            } else {
+                json.append('"').append(value.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+            }
+        }
+        return json.append('}').toString();
+    }
+    
     /**
      * Generate mock response based on hook.
      */
@@ -267,6 +305,40 @@ public class MockRouterServer {
     
 
     
+    /**
+     * Collect parameters from the query string and a form-encoded POST body.
+     */
+    private Map<String, String> parseRequestParams(HttpExchange exchange) throws IOException {
+        Map<String, String> params = parseQuery(exchange.getRequestURI().getQuery());
+        if ("POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            for (String param : body.split("&")) {
+                String[] pair = param.split("=", 2);
+                if (pair.length == 2) {
+                    params.put(URLDecoder.decode(pair[0], StandardCharsets.UTF_8),
+                               URLDecoder.decode(pair[1], StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return params;
+    }
+    
+    /**
+     * Decode base64(username:password), returning empty values if malformed.
+     */
+    private String[] decodeCredentials(String authorization) {
+        if (authorization == null) {
+            return new String[] {"", ""};
+        }
+        try {
+            String decoded = new String(java.util.Base64.getDecoder().decode(authorization), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(":", 2);
+            return parts.length == 2 ? parts : new String[] {"", ""};
+        } catch (IllegalArgumentException e) {
+            return new String[] {"", ""};
+        }
+    }
+    
     /**
      * Parse URL query string.
      */
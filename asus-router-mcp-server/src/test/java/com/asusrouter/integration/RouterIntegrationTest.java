@@ -31,6 +31,7 @@ import com.asusrouter.domain.model.WanStatus;
  * Configure router connection in application.yml or environment variables.
  */
 @SpringBootTest
+@org.springframework.test.context.ActiveProfiles("test")
 @EnabledIfEnvironmentVariable(named = "ROUTER_INTEGRATION_TEST", matches = "true")
 class RouterIntegrationTest {
     
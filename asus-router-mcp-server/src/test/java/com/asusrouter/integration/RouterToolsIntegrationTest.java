@@ -23,6 +23,7 @@ import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 
 import com.asusrouter.application.port.in.GetClientFullInfoUseCase;
+import com.asusrouter.application.port.in.GetClientsFullInfoUseCase;
 import com.asusrouter.application.port.in.GetClientInfoSummaryUseCase;
 import com.asusrouter.application.port.in.GetClientListUseCase;
 import com.asusrouter.application.port.in.GetCpuUsageUseCase;
@@ -100,6 +101,9 @@ class RouterToolsIntegrationTest {
     @Autowired
     private GetClientFullInfoUseCase getClientFullInfoUseCase;
     
+    @Autowired
+    private GetClientsFullInfoUseCase getClientsFullInfoUseCase;
+    
     @Autowired
     private GetClientInfoSummaryUseCase getClientInfoSummaryUseCase;
     
@@ -430,6 +434,22 @@ class RouterToolsIntegrationTest {
         assertTrue(info.contains("SYSTEM INFORMATION") || info.contains("NETWORK STATUS"), "Should contain section headers");
     }
     
+    @Test
+    @Order(23)
+    @DisplayName("Test 23: GetClientsFullInfo - Batch lookup by MACs and filter")
+    void testGetClientsFullInfo() {
+        List<ClientFullInfo> byMac = getClientsFullInfoUseCase.execute(
+            List.of(new MacAddress("aa-bb-cc-dd-ee-01"), new MacAddress("AA:BB:CC:DD:EE:03"), new MacAddress("00:00:00:00:00:00")),
+            null, null);
+        List<ClientFullInfo> wireless = getClientsFullInfoUseCase.execute(null, null, 1);
+        List<ClientFullInfo> all = getClientsFullInfoUseCase.execute(null, null, null);
+        
+        assertEquals(2, byMac.size(), "Should return only known clients");
+        assertEquals(2, wireless.size(), "Should return wireless clients");
+        assertTrue(wireless.stream().allMatch(ClientFullInfo::isWireless), "All filtered clients should be wireless");
+        assertEquals(3, all.size(), "Should return every client without criteria");
+    }
+    
     @Nested
     @DisplayName("Error Handling Tests")
     @SuppressWarnings({"unused", "ResultOfObjectAllocationIgnored"}) // False positives in assertThrows